@@ -0,0 +1,104 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Latency benchmarks of the public operations of {@link BoardManager}, for
+ * move histories of different length played from different kinds of
+ * positions. Run with "-prof gc" to get allocation rates as well.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoardManagerBenchmark {
+
+	/**
+	 * Board manager with a game of given length played from given kind of
+	 * position.
+	 */
+	@State(Scope.Thread)
+	public static class GameState {
+
+		@Param({ "10", "100", "500" })
+		int historyLength;
+
+		@Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+		PositionType positionType;
+
+		BoardManager boardManager;
+		Move nextMove;
+
+		@Setup(Level.Trial)
+		public void setUp() throws InvalidMoveException {
+			boardManager = positionType.createBoardManager();
+			GameHistory.play(boardManager, historyLength);
+			nextMove = GameHistory.findQuietMove(boardManager);
+		}
+	}
+
+	/**
+	 * Moves of a game of given length played from the initial position,
+	 * which is where {@link BoardManager#BoardManager(List)} starts.
+	 */
+	@State(Scope.Thread)
+	public static class HistoryState {
+
+		@Param({ "10", "100", "500" })
+		int historyLength;
+
+		List<Move> moves;
+
+		@Setup(Level.Trial)
+		public void setUp() throws InvalidMoveException {
+			moves = GameHistory.play(new BoardManager(), historyLength);
+		}
+	}
+
+	@Benchmark
+	public Move performMove(GameState state) throws InvalidMoveException {
+		state.boardManager.performMove(state.nextMove.getFrom(), state.nextMove.getTo());
+		return state.boardManager.unmakeMove();
+	}
+
+	@Benchmark
+	public BoardState updateBoardState(GameState state) throws InvalidMoveException {
+		return state.boardManager.updateBoardState();
+	}
+
+	@Benchmark
+	public boolean checkThreefoldRepetitionRule(GameState state) {
+		return state.boardManager.checkThreefoldRepetitionRule();
+	}
+
+	@Benchmark
+	public boolean checkFiftyMoveRule(GameState state) {
+		return state.boardManager.checkFiftyMoveRule();
+	}
+
+	@Benchmark
+	public BoardManager createBoardManager(HistoryState state) {
+		return new BoardManager(state.moves);
+	}
+}
@@ -0,0 +1,81 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Plays reproducible move histories for benchmarks.
+ *
+ * Quiet piece moves are preferred, so material and therefore the kind of
+ * position stays the same however long the history is. The halfmove clock
+ * is rarely reset, so the threefold repetition check, which looks back to
+ * the last capture or pawn move, compares keys over most of the history.
+ *
+ */
+final class GameHistory {
+
+	private static final long SEED = 0x5DEECE66DL;
+
+	private GameHistory() {
+	}
+
+	/**
+	 * Plays given number of plies on the board.
+	 *
+	 * @param boardManager
+	 *            board manager to play on
+	 * @param plies
+	 *            number of plies to play
+	 * @return moves which have been played
+	 * @throws NoKingOnTheBoard
+	 *             in case the position has no king
+	 */
+	static List<Move> play(BoardManager boardManager, int plies) throws NoKingOnTheBoard {
+		Random random = new Random(SEED + plies);
+		List<Move> playedMoves = new ArrayList<>();
+		for (int ply = 0; ply < plies; ply++) {
+			List<Move> legalMoves = boardManager.generateLegalMoves();
+			if (legalMoves.isEmpty()) {
+				throw new IllegalStateException("Game ended after " + ply + " plies");
+			}
+			List<Move> quietMoves = new ArrayList<>();
+			for (Move move : legalMoves) {
+				if (move.getType() == MoveType.ATTACK && move.getMovedPiece().getType() != PieceType.PAWN) {
+					quietMoves.add(move);
+				}
+			}
+			List<Move> candidates = quietMoves.isEmpty() ? legalMoves : quietMoves;
+			Move move = candidates.get(random.nextInt(candidates.size()));
+			boardManager.makeMove(move);
+			playedMoves.add(move);
+		}
+		return playedMoves;
+	}
+
+	/**
+	 * Finds a quiet piece move for the player to move, to be made and taken
+	 * back by benchmarks.
+	 *
+	 * @param boardManager
+	 *            board manager with the position
+	 * @return quiet move or any legal move if there is no quiet one
+	 * @throws NoKingOnTheBoard
+	 *             in case the position has no king
+	 */
+	static Move findQuietMove(BoardManager boardManager) throws NoKingOnTheBoard {
+		List<Move> legalMoves = boardManager.generateLegalMoves();
+		for (Move move : legalMoves) {
+			if (move.getType() == MoveType.ATTACK && move.getMovedPiece().getType() != PieceType.PAWN) {
+				return move;
+			}
+		}
+		return legalMoves.get(0);
+	}
+}
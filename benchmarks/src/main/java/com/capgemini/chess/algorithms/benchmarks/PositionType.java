@@ -0,0 +1,30 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Kinds of positions the benchmarked games start from.
+ *
+ */
+public enum PositionType {
+
+	OPENING(Fen.INITIAL_POSITION),
+	MIDDLEGAME("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"),
+	ENDGAME("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+
+	private final String fen;
+
+	private PositionType(String fen) {
+		this.fen = fen;
+	}
+
+	/**
+	 * Creates board manager with the position set up and white to move.
+	 *
+	 * @return board manager with empty move history
+	 */
+	public BoardManager createBoardManager() {
+		return new BoardManager(Fen.toBoard(fen));
+	}
+}
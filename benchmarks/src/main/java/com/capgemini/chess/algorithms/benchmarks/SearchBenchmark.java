@@ -0,0 +1,82 @@
+package com.capgemini.chess.algorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+import com.capgemini.chess.algorithms.search.ParallelSearch;
+import com.capgemini.chess.algorithms.search.SearchLimits;
+import com.capgemini.chess.algorithms.search.SearchResult;
+import com.capgemini.chess.algorithms.search.TranspositionTable;
+
+/**
+ * Time to depth of {@link ParallelSearch} for different numbers of threads.
+ * Every search starts with an empty transposition table, so speedup of N
+ * threads is the time of 1 thread divided by the time of N threads. Nodes
+ * searched to reach the depth are reported as a secondary result; compared
+ * between searches with and without move ordering, which keep moves in the
+ * order of generation, they show how many nodes the ordering saves.
+ *
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+	private static final int TABLE_SIZE_MB = 64;
+
+	@Param({ "1", "2", "4", "8", "16" })
+	int threads;
+
+	@Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+	PositionType positionType;
+
+	@Param({ "5" })
+	int depth;
+
+	@Param({ "true", "false" })
+	boolean moveOrdering;
+
+	ParallelSearch search;
+
+	/**
+	 * Nodes searched by all threads, reported next to the time as a sum over
+	 * measured searches.
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class NodeCounter {
+
+		public long nodes;
+	}
+
+	@Setup(Level.Invocation)
+	public void setUp() {
+		search = new ParallelSearch(positionType.createBoardManager(), threads,
+				new TranspositionTable(TABLE_SIZE_MB));
+		search.setMoveOrdering(moveOrdering);
+	}
+
+	@Benchmark
+	public SearchResult searchToDepth(NodeCounter counter) throws NoKingOnTheBoard {
+		SearchResult result = search.search(SearchLimits.depth(depth));
+		counter.nodes += result.getNodes();
+		return result;
+	}
+}
@@ -0,0 +1,163 @@
+package com.capgemini.chess.algorithms.attacks;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Precomputed bitboards of fields attacked from each field of the empty
+ * board, and of fields lying between and along lines of pairs of fields. Bits
+ * are numbered by square index (a1 is bit 0, h8 is bit 63), as in board
+ * bitboards.
+ *
+ */
+public final class AttackTables {
+
+	private static final int SIZE = 8;
+	private static final int SQUARES = SIZE * SIZE;
+
+	private static final int[][] KING_STEPS = { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 },
+			{ 0, -1 }, { 1, -1 } };
+	private static final int[][] KNIGHT_JUMPS = { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 },
+			{ -2, 1 }, { -1, 2 } };
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 } };
+
+	private static final long[] KING_ATTACKS = new long[SQUARES];
+	private static final long[] KNIGHT_ATTACKS = new long[SQUARES];
+	private static final long[][] PAWN_ATTACKS = new long[Color.values().length][SQUARES];
+	private static final long[] ROOK_RAYS = new long[SQUARES];
+	private static final long[] BISHOP_RAYS = new long[SQUARES];
+	private static final long[][] BETWEEN = new long[SQUARES][SQUARES];
+	private static final long[][] LINE = new long[SQUARES][SQUARES];
+
+	static {
+		for (int square = 0; square < SQUARES; square++) {
+			KING_ATTACKS[square] = steps(square, KING_STEPS);
+			KNIGHT_ATTACKS[square] = steps(square, KNIGHT_JUMPS);
+			PAWN_ATTACKS[Color.WHITE.ordinal()][square] = steps(square, new int[][] { { -1, 1 }, { 1, 1 } });
+			PAWN_ATTACKS[Color.BLACK.ordinal()][square] = steps(square, new int[][] { { -1, -1 }, { 1, -1 } });
+			for (int[] direction : ROOK_DIRECTIONS) {
+				ROOK_RAYS[square] |= fillRay(square, direction);
+			}
+			for (int[] direction : BISHOP_DIRECTIONS) {
+				BISHOP_RAYS[square] |= fillRay(square, direction);
+			}
+		}
+		for (int from = 0; from < SQUARES; from++) {
+			fillLines(from, ROOK_DIRECTIONS);
+			fillLines(from, BISHOP_DIRECTIONS);
+		}
+	}
+
+	private AttackTables() {
+	}
+
+	/**
+	 * @param square field index
+	 * @return fields attacked by a king standing on given field
+	 */
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * @param square field index
+	 * @return fields attacked by a knight standing on given field
+	 */
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	/**
+	 * @param color pawn color
+	 * @param square field index
+	 * @return fields which a pawn of given color standing on given field
+	 *         attacks (diagonally forward)
+	 */
+	public static long pawnAttacks(Color color, int square) {
+		return PAWN_ATTACKS[color.ordinal()][square];
+	}
+
+	/**
+	 * @param square field index
+	 * @return fields attacked by a rook standing on given field of the empty
+	 *         board
+	 */
+	public static long rookRays(int square) {
+		return ROOK_RAYS[square];
+	}
+
+	/**
+	 * @param square field index
+	 * @return fields attacked by a bishop standing on given field of the
+	 *         empty board
+	 */
+	public static long bishopRays(int square) {
+		return BISHOP_RAYS[square];
+	}
+
+	/**
+	 * @param from field index
+	 * @param to field index
+	 * @return fields strictly between given fields if they lie on one rank,
+	 *         file or diagonal, 0 otherwise
+	 */
+	public static long between(int from, int to) {
+		return BETWEEN[from][to];
+	}
+
+	/**
+	 * @param from field index
+	 * @param to field index
+	 * @return whole rank, file or diagonal going through both fields (edge to
+	 *         edge), 0 if they are not aligned
+	 */
+	public static long line(int from, int to) {
+		return LINE[from][to];
+	}
+
+	private static long steps(int square, int[][] steps) {
+		long attacks = 0;
+		for (int[] step : steps) {
+			int x = square % SIZE + step[0];
+			int y = square / SIZE + step[1];
+			if (isInBounds(x, y)) {
+				attacks |= 1L << (y * SIZE + x);
+			}
+		}
+		return attacks;
+	}
+
+	private static long fillRay(int square, int[] direction) {
+		long ray = 0;
+		int x = square % SIZE + direction[0];
+		int y = square / SIZE + direction[1];
+		while (isInBounds(x, y)) {
+			ray |= 1L << (y * SIZE + x);
+			x += direction[0];
+			y += direction[1];
+		}
+		return ray;
+	}
+
+	private static void fillLines(int from, int[][] directions) {
+		for (int[] direction : directions) {
+			int[] opposite = { -direction[0], -direction[1] };
+			long line = (1L << from) | fillRay(from, direction) | fillRay(from, opposite);
+			long between = 0;
+			int x = from % SIZE + direction[0];
+			int y = from / SIZE + direction[1];
+			while (isInBounds(x, y)) {
+				int to = y * SIZE + x;
+				BETWEEN[from][to] = between;
+				LINE[from][to] = line;
+				between |= 1L << to;
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+	}
+
+	private static boolean isInBounds(int x, int y) {
+		return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+	}
+}
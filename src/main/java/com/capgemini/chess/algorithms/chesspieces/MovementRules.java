@@ -0,0 +1,162 @@
+package com.capgemini.chess.algorithms.chesspieces;
+
+import com.capgemini.chess.algorithms.attacks.AttackTables;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Movement rules of all pieces on an empty board. Fields where a piece can
+ * capture are the attacks of {@link AttackTables}; fields where it can move
+ * without capturing are the same except for pawns, whose steps forward are
+ * kept here together with the other pawn rules in static arrays indexed by
+ * color. Checking the geometry of a move is an array lookup whatever the
+ * piece.
+ *
+ * Blocking pieces are not taken into account, the path of sliding pieces and
+ * pawn double steps has to be checked separately.
+ *
+ */
+public final class MovementRules {
+
+	private static final int SIZE = 8;
+
+	// pawn rules indexed by Color ordinal: white, black
+	private static final int[] PAWN_DIRECTION = { 1, -1 };
+	private static final int[] PAWN_START_RANK = { 1, SIZE - 2 };
+	private static final int[] PROMOTION_RANK = { SIZE - 1, 0 };
+
+	// fields reachable by pawn steps, indexed by [color][square]
+	private static final long[][] PAWN_STEPS = new long[Color.values().length][SIZE * SIZE];
+
+	static {
+		for (Color color : Color.values()) {
+			for (int square = 0; square < SIZE * SIZE; square++) {
+				PAWN_STEPS[color.ordinal()][square] = pawnSteps(color, square);
+			}
+		}
+	}
+
+	private MovementRules() {
+	}
+
+	/**
+	 * Checks if piece can move to an empty field, ignoring other pieces on
+	 * the way.
+	 *
+	 * @param type piece type
+	 * @param color piece color
+	 * @param from 'from' field
+	 * @param to 'to' field
+	 * @return VALID or NOT_REACHABLE
+	 */
+	public static MoveValidationResult validateAttack(PieceType type, Color color, Coordinate from, Coordinate to) {
+		if (!isOnBoard(from) || !isOnBoard(to)) {
+			return MoveValidationResult.NOT_REACHABLE;
+		}
+		return isReachable(attacks(type, color, from.getSquareIndex()), to) ? MoveValidationResult.VALID
+				: MoveValidationResult.NOT_REACHABLE;
+	}
+
+	/**
+	 * Checks if piece can capture on given field, ignoring other pieces on the
+	 * way.
+	 *
+	 * @param type piece type
+	 * @param color piece color
+	 * @param from 'from' field
+	 * @param to 'to' field
+	 * @return VALID or NOT_REACHABLE
+	 */
+	public static MoveValidationResult validateCapture(PieceType type, Color color, Coordinate from, Coordinate to) {
+		if (!isOnBoard(from) || !isOnBoard(to)) {
+			return MoveValidationResult.NOT_REACHABLE;
+		}
+		return isReachable(captures(type, color, from.getSquareIndex()), to) ? MoveValidationResult.VALID
+				: MoveValidationResult.NOT_REACHABLE;
+	}
+
+	/**
+	 * Gets fields where piece can move without capturing from given square of
+	 * an empty board.
+	 *
+	 * @param type piece type
+	 * @param color piece color
+	 * @param square square index
+	 * @return mask of reachable fields
+	 */
+	public static long attacks(PieceType type, Color color, int square) {
+		if (type == PieceType.PAWN) {
+			return PAWN_STEPS[color.ordinal()][square];
+		}
+		return captures(type, color, square);
+	}
+
+	/**
+	 * Gets fields where piece can capture from given square of an empty
+	 * board.
+	 *
+	 * @param type piece type
+	 * @param color piece color
+	 * @param square square index
+	 * @return mask of reachable fields
+	 */
+	public static long captures(PieceType type, Color color, int square) {
+		switch (type) {
+		case KING:
+			return AttackTables.kingAttacks(square);
+		case QUEEN:
+			return AttackTables.rookRays(square) | AttackTables.bishopRays(square);
+		case BISHOP:
+			return AttackTables.bishopRays(square);
+		case KNIGHT:
+			return AttackTables.knightAttacks(square);
+		case ROOK:
+			return AttackTables.rookRays(square);
+		default:
+			return AttackTables.pawnAttacks(color, square);
+		}
+	}
+
+	/**
+	 * @return 1 if pawns of given color move up the board, -1 otherwise
+	 */
+	public static int pawnDirection(Color color) {
+		return PAWN_DIRECTION[color.ordinal()];
+	}
+
+	public static int pawnStartRank(Color color) {
+		return PAWN_START_RANK[color.ordinal()];
+	}
+
+	public static int promotionRank(Color color) {
+		return PROMOTION_RANK[color.ordinal()];
+	}
+
+	private static boolean isReachable(long reachable, Coordinate to) {
+		return (reachable & (1L << to.getSquareIndex())) != 0;
+	}
+
+	private static long pawnSteps(Color color, int square) {
+		int x = square % SIZE;
+		int y = square / SIZE;
+		int direction = PAWN_DIRECTION[color.ordinal()];
+		if (!isOnBoard(x, y + direction)) {
+			return 0L;
+		}
+		long fields = 1L << ((y + direction) * SIZE + x);
+		if (y == PAWN_START_RANK[color.ordinal()]) {
+			fields |= 1L << ((y + 2 * direction) * SIZE + x);
+		}
+		return fields;
+	}
+
+	private static boolean isOnBoard(Coordinate coordinate) {
+		return isOnBoard(coordinate.getX(), coordinate.getY());
+	}
+
+	private static boolean isOnBoard(int x, int y) {
+		return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+	}
+}
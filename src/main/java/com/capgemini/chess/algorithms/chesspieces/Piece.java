@@ -2,33 +2,57 @@ package com.capgemini.chess.algorithms.chesspieces;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 
 /**
  * @author JOANNANO Abstract class describing general properties of chess
- *         pieces. Each child class has to implement specific movement dynamic.
+ *         pieces. Movement dynamic of all pieces is described by
+ *         {@link MovementRules}, child classes only name the piece type.
  */
 public abstract class Piece {
 
 	final Color color;
-	PieceType type = null;
-	
+	final PieceType type;
+	private final String illegalAttackMessage;
+	private final String illegalCaptureMessage;
+
 	/**
 	 * Sole constructor to ensure each piece has its type and color.
 	 * 
-	 * @param type
 	 * @param color
+	 * @param type
+	 * @param illegalAttackMessage
+	 *            message of exception thrown for unreachable attack
+	 * @param illegalCaptureMessage
+	 *            message of exception thrown for unreachable capture
 	 */
-	Piece(Color color) {
+	Piece(Color color, PieceType type, String illegalAttackMessage, String illegalCaptureMessage) {
 		this.color = color;
+		this.type = type;
+		this.illegalAttackMessage = illegalAttackMessage;
+		this.illegalCaptureMessage = illegalCaptureMessage;
+	}
+
+	/**
+	 * Gets shared instance of the piece of given color and type. Pieces are
+	 * immutable, so one instance per color and type is enough for any number
+	 * of boards.
+	 * 
+	 * @param color
+	 * @param type
+	 * @return piece
+	 */
+	public static Piece of(Color color, PieceType type) {
+		return SharedPieces.PIECES[color.ordinal()][type.ordinal()];
 	}
 
 	public Color getColor() {
 		return color;
 	}
 	
-	public PieceType getType() {
+	public final PieceType getType() {
 		return this.type;
 	}
 
@@ -39,7 +63,11 @@ public abstract class Piece {
 	 * @param newMove
 	 * @throws InvalidMoveException
 	 */
-	public abstract void isAttackPossible(Coordinate from, Coordinate to) throws InvalidMoveException;
+	public final void isAttackPossible(Coordinate from, Coordinate to) throws InvalidMoveException {
+		if (!validateAttack(from, to).isValid()) {
+			throw new InvalidMoveException(illegalAttackMessage);
+		}
+	}
 
 	/**
 	 * Method checking if given capture move is consistent with figure's way of
@@ -48,7 +76,35 @@ public abstract class Piece {
 	 * @param newMove
 	 * @throws InvalidMoveException
 	 */
-	public abstract void isCapturePossible(Coordinate from, Coordinate to) throws InvalidMoveException;
+	public final void isCapturePossible(Coordinate from, Coordinate to) throws InvalidMoveException {
+		if (!validateCapture(from, to).isValid()) {
+			throw new InvalidMoveException(illegalCaptureMessage);
+		}
+	}
+
+	/**
+	 * Method checking without throwing exceptions if given attack move is
+	 * consistent with figure's way of movement.
+	 * 
+	 * @param from
+	 * @param to
+	 * @return VALID or NOT_REACHABLE
+	 */
+	public final MoveValidationResult validateAttack(Coordinate from, Coordinate to) {
+		return MovementRules.validateAttack(this.type, this.color, from, to);
+	}
+
+	/**
+	 * Method checking without throwing exceptions if given capture move is
+	 * consistent with figure's way of movement.
+	 * 
+	 * @param from
+	 * @param to
+	 * @return VALID or NOT_REACHABLE
+	 */
+	public final MoveValidationResult validateCapture(Coordinate from, Coordinate to) {
+		return MovementRules.validateCapture(this.type, this.color, from, to);
+	}
 
 	@Override
 	public int hashCode() {
@@ -80,4 +136,20 @@ public abstract class Piece {
 		return true;
 	}
 
+	private static final class SharedPieces {
+
+		private static final Piece[][] PIECES = new Piece[Color.values().length][PieceType.values().length];
+
+		static {
+			for (Color color : Color.values()) {
+				PIECES[color.ordinal()][PieceType.KING.ordinal()] = new King(color);
+				PIECES[color.ordinal()][PieceType.QUEEN.ordinal()] = new Queen(color);
+				PIECES[color.ordinal()][PieceType.BISHOP.ordinal()] = new Bishop(color);
+				PIECES[color.ordinal()][PieceType.KNIGHT.ordinal()] = new Knight(color);
+				PIECES[color.ordinal()][PieceType.ROOK.ordinal()] = new Rook(color);
+				PIECES[color.ordinal()][PieceType.PAWN.ordinal()] = new Pawn(color);
+			}
+		}
+	}
+
 }
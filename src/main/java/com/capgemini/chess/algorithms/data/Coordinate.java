@@ -3,19 +3,58 @@ package com.capgemini.chess.algorithms.data;
 /**
  * Coordinates of Chess Piece.
  * 
+ * Coordinates are immutable, so the 64 fields of the board are shared
+ * instances available by {@link #of(int, int)} and {@link #of(int)}.
+ * 
  * @author Michal Bejm
  *
  */
 public class Coordinate {
 
-	private int x;
-	private int y;
+	private static final int BOARD_SIZE = 8;
+	private static final Coordinate[] FIELDS = new Coordinate[BOARD_SIZE * BOARD_SIZE];
+
+	static {
+		for (int i = 0; i < FIELDS.length; i++) {
+			FIELDS[i] = new Coordinate(i % BOARD_SIZE, i / BOARD_SIZE);
+		}
+	}
+
+	private final int x;
+	private final int y;
 
 	public Coordinate(int x, int y) {
 		this.x = x;
 		this.y = y;
 	}
 
+	/**
+	 * Gets shared coordinates of the board field. Coordinates outside of the
+	 * board are created on each call.
+	 * 
+	 * @param x
+	 * @param y
+	 * @return coordinates
+	 */
+	public static Coordinate of(int x, int y) {
+		if (x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE) {
+			return FIELDS[y * BOARD_SIZE + x];
+		}
+		return new Coordinate(x, y);
+	}
+
+	/**
+	 * Gets shared coordinates of the board field.
+	 * 
+	 * @param squareIndex
+	 *            index of the field in range 0-63
+	 * @return coordinates
+	 * @see #getSquareIndex()
+	 */
+	public static Coordinate of(int squareIndex) {
+		return FIELDS[squareIndex];
+	}
+
 	public int getX() {
 		return x;
 	}
@@ -24,6 +63,17 @@ public class Coordinate {
 		return y;
 	}
 
+	/**
+	 * Gets index of the field in range 0-63, counting from a1 along the
+	 * ranks. The index is also the bit number of the field in board
+	 * bitboards.
+	 * 
+	 * @return square index
+	 */
+	public int getSquareIndex() {
+		return y * BOARD_SIZE + x;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -48,4 +98,16 @@ public class Coordinate {
 			return false;
 		return true;
 	}
+
+	/**
+	 * Gets field name in algebraic notation, like "e4". Coordinates outside
+	 * of the board are written as a pair of numbers.
+	 */
+	@Override
+	public String toString() {
+		if (x >= 0 && x < BOARD_SIZE && y >= 0 && y < BOARD_SIZE) {
+			return String.valueOf((char) ('a' + x)) + (y + 1);
+		}
+		return "(" + x + ", " + y + ")";
+	}
 }
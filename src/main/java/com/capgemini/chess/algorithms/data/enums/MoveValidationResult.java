@@ -0,0 +1,33 @@
+package com.capgemini.chess.algorithms.data.enums;
+
+/**
+ * Result of move validation: either valid move or reason of its rejection
+ * 
+ */
+public enum MoveValidationResult {
+	VALID("Valid move"),
+	OUT_OF_BOUNDS("Coordinates out of bounds"),
+	SAME_FIELD("Cannot stay in place"),
+	NO_PIECE("No piece to move in this position"),
+	WRONG_COLOR("The same color cannot move twice"),
+	OWN_PIECE("Cannot capture own piece"),
+	NOT_REACHABLE("Piece cannot reach this field"),
+	BLOCKED("The piece cannot leap over another"),
+	CASTLING_NOT_ALLOWED("Castling not allowed"),
+	LEAVES_KING_IN_CHECK("King must not be checked!"),
+	NO_KING("No king on the board");
+
+	private final String message;
+
+	MoveValidationResult(String message) {
+		this.message = message;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public boolean isValid() {
+		return this == VALID;
+	}
+}
@@ -1,17 +1,39 @@
 package com.capgemini.chess.algorithms.data.generated;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.chesspieces.Piece;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.CastlingType;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.PackedMove;
 
 /**
  * Board representation.
  * Board objects are generated based on move history.
  * 
+ * Pieces are kept twice: in the {@link Piece} array used by
+ * {@link #getPieceAt(Coordinate)} and as bitboards - one 64-bit mask per
+ * color and piece type, plus occupancy masks per color. Bit number of a field
+ * is its square index (see {@link Coordinate#getSquareIndex()}), so a1 is bit
+ * 0, h1 is bit 7 and h8 is bit 63.
+ * 
+ * Occupancy masks are the square sets of pieces of each color, updated by
+ * {@link #setPieceAt(Piece, Coordinate)}. Whole-board operations iterate
+ * their set bits and read pieces with {@link #getPieceAt(int)}, so they touch
+ * only occupied fields instead of all 64.
+ * 
+ * Castling rights, en passant field and fields of both kings are kept as
+ * state as well, so none of them needs the move history to be read.
+ * 
+ * Board also keeps Zobrist hash of the position, updated with every change of
+ * pieces, castling rights and en passant field, and a stack of hashes of
+ * positions reached after subsequent moves of the history.
+ * 
  * @author Michal Bejm
  *
  */
@@ -19,17 +41,146 @@ public class Board {
 	
 	public static final int SIZE = 8;
 	
+	public static final int ALL_CASTLING_RIGHTS = 0xF;
+	
+	private static final int PIECE_TYPES = PieceType.values().length;
+	
 	private Piece[][] pieces = new Piece[SIZE][SIZE];
-	private List<Move> moveHistory = new ArrayList<>();
+	private long[] pieceBitboards = new long[Color.values().length * PIECE_TYPES];
+	private long[] colorOccupancy = new long[Color.values().length];
+	private MoveHistory moveHistory = new MoveHistory(this);
+	private int startPly;
 	private BoardState state;
+	private int castlingRights = ALL_CASTLING_RIGHTS;
+	private Coordinate enPassantField;
+	private Coordinate[] kingFields = new Coordinate[Color.values().length];
+	private long zobristKey = ZobristKeys.CASTLING_RIGHTS[ALL_CASTLING_RIGHTS];
+	private long[] positionKeys = new long[64];
 	
 	public Board() {
 	}
 
+	/**
+	 * Copy constructor. The copy shares no state with given board, so both
+	 * can be changed independently, e.g. by different threads.
+	 * 
+	 * @param board board to copy
+	 */
+	public Board(Board board) {
+		for (int x = 0; x < SIZE; x++) {
+			this.pieces[x] = board.pieces[x].clone();
+		}
+		this.pieceBitboards = board.pieceBitboards.clone();
+		this.colorOccupancy = board.colorOccupancy.clone();
+		this.moveHistory = new MoveHistory(board.moveHistory, this);
+		this.startPly = board.startPly;
+		this.state = board.state;
+		this.castlingRights = board.castlingRights;
+		this.enPassantField = board.enPassantField;
+		this.kingFields = board.kingFields.clone();
+		this.zobristKey = board.zobristKey;
+		this.positionKeys = board.positionKeys.clone();
+	}
+
+	/**
+	 * Gets move history as a list view of the packed moves kept by the board.
+	 * {@link Move} objects are created on access, so they should not be
+	 * compared by identity.
+	 * 
+	 * @return move history
+	 */
 	public List<Move> getMoveHistory() {
 		return moveHistory;
 	}
 
+	/**
+	 * Gets move of given index in the history, packed by {@link PackedMove}.
+	 * 
+	 * @param ply index of the move in the history
+	 * @return packed move
+	 */
+	public int getPackedMove(int ply) {
+		return moveHistory.getPacked(ply);
+	}
+
+	/**
+	 * Appends packed move to the move history and updates castling rights
+	 * and en passant field after it: moves of a king or a rook and captures
+	 * of a rook take castling rights away, a pawn moving two fields forward
+	 * sets the en passant field. Pieces are not moved.
+	 * 
+	 * @param packedMove move packed by {@link PackedMove}
+	 */
+	public void addMove(int packedMove) {
+		moveHistory.addPacked(packedMove);
+		if (castlingRights != 0) {
+			removeCastlingRights(PackedMove.getMovedPiece(packedMove), PackedMove.getFrom(packedMove));
+			removeCastlingRights(PackedMove.getCapturedPiece(packedMove), PackedMove.getTo(packedMove));
+		}
+		updateEnPassantField(packedMove);
+	}
+
+	/**
+	 * Removes the last move from the move history. Pieces are not moved,
+	 * castling rights and en passant field are not restored.
+	 * 
+	 * @return removed packed move
+	 */
+	public int removeLastMove() {
+		return moveHistory.removeLastPacked();
+	}
+
+	/**
+	 * Gets number of plies played in the game before the first move of the
+	 * move history, zero unless the board was set up from a later position.
+	 * 
+	 * @return number of plies before the move history
+	 */
+	public int getStartPly() {
+		return startPly;
+	}
+
+	public void setStartPly(int startPly) {
+		this.startPly = startPly;
+	}
+
+	/**
+	 * Gets number of plies played in the game so far. White is to move when
+	 * it is even.
+	 * 
+	 * @return number of plies of the game
+	 */
+	public int getPly() {
+		return startPly + moveHistory.size();
+	}
+
+	/**
+	 * Gets number of moves since the last capture or pawn move, kept up to
+	 * date with every change of the move history.
+	 * 
+	 * @return halfmove clock
+	 */
+	public int getHalfmoveClock() {
+		return moveHistory.getHalfmoveClock();
+	}
+
+	/**
+	 * Sets halfmove clock of the position before the first move of the move
+	 * history.
+	 * 
+	 * @param halfmoveClock number of moves since the last capture or pawn move
+	 */
+	public void setStartHalfmoveClock(int halfmoveClock) {
+		moveHistory.setInitialHalfmoveClock(halfmoveClock);
+	}
+
+	/**
+	 * Gets pieces array indexed by [x][y]. The array is meant for reading only,
+	 * pieces have to be placed by {@link #setPieceAt(Piece, Coordinate)} to
+	 * keep bitboards consistent.
+	 * 
+	 * @return pieces array
+	 */
 	public Piece[][] getPieces() {
 		return pieces;
 	}
@@ -41,6 +192,103 @@ public class Board {
 	public void setState(BoardState state) {
 		this.state = state;
 	}
+
+	/**
+	 * Gets castling rights of both players packed as bits, one bit per color
+	 * and castling type.
+	 * 
+	 * @return castling rights bits
+	 */
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	public void setCastlingRights(int castlingRights) {
+		zobristKey ^= ZobristKeys.CASTLING_RIGHTS[this.castlingRights] ^ ZobristKeys.CASTLING_RIGHTS[castlingRights];
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Checks if neither the king nor the rook involved in given castling have
+	 * moved so far.
+	 * 
+	 * @param color king color
+	 * @param castlingType castling type
+	 * @return true if castling is still allowed by the rules
+	 */
+	public boolean hasCastlingRight(Color color, CastlingType castlingType) {
+		return (castlingRights & castlingRightBit(color, castlingType)) != 0;
+	}
+
+	public void removeCastlingRight(Color color, CastlingType castlingType) {
+		setCastlingRights(castlingRights & ~castlingRightBit(color, castlingType));
+	}
+
+	/**
+	 * Gets field which can be captured en passant in the next move - the field
+	 * skipped by a pawn which has just moved two fields forward.
+	 * 
+	 * @return en passant field or null
+	 */
+	public Coordinate getEnPassantField() {
+		return enPassantField;
+	}
+
+	public void setEnPassantField(Coordinate enPassantField) {
+		if (this.enPassantField != null) {
+			zobristKey ^= ZobristKeys.EN_PASSANT_FILE[this.enPassantField.getX()];
+		}
+		if (enPassantField != null) {
+			zobristKey ^= ZobristKeys.EN_PASSANT_FILE[enPassantField.getX()];
+		}
+		this.enPassantField = enPassantField;
+	}
+
+	/**
+	 * Gets Zobrist hash of the current position: pieces, castling rights, en
+	 * passant field and side to move (taken from the number of plies).
+	 * 
+	 * @return 64-bit position hash
+	 */
+	public long getZobristKey() {
+		return getPly() % 2 == 0 ? zobristKey : zobristKey ^ ZobristKeys.BLACK_TO_MOVE;
+	}
+
+	/**
+	 * Stores hash of the current position as the hash of position reached by
+	 * the last move of the history. Should be called after each move added to
+	 * the history.
+	 */
+	public void recordPositionKey() {
+		int ply = moveHistory.size() - 1;
+		if (ply >= positionKeys.length) {
+			positionKeys = Arrays.copyOf(positionKeys, Math.max(positionKeys.length * 2, ply + 1));
+		}
+		positionKeys[ply] = getZobristKey();
+	}
+
+	/**
+	 * Gets hash of the position reached after the move of given index in the
+	 * move history. Positions after moves added to the history without
+	 * {@link #recordPositionKey()} have no hash and give 0.
+	 * 
+	 * @param ply index of the move in the history
+	 * @return 64-bit position hash
+	 */
+	public long getPositionKey(int ply) {
+		return ply < positionKeys.length ? positionKeys[ply] : 0L;
+	}
+
+	/**
+	 * Forgets hashes of positions after moves which are no longer in the
+	 * history. Should be called after each move taken back from the history.
+	 */
+	public void discardPositionKeys() {
+		int size = moveHistory.size();
+		if (size < positionKeys.length) {
+			Arrays.fill(positionKeys, size, positionKeys.length, 0L);
+		}
+	}
 	
 	/**
 	 * Sets chess this on board based on given coordinates
@@ -50,7 +298,27 @@ public class Board {
 	 * @param coordinate given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
+		long squareBit = 1L << coordinate.getSquareIndex();
+		Piece replacedPiece = pieces[coordinate.getX()][coordinate.getY()];
+		if (replacedPiece != null) {
+			int index = bitboardIndex(replacedPiece.getColor(), replacedPiece.getType());
+			pieceBitboards[index] &= ~squareBit;
+			colorOccupancy[replacedPiece.getColor().ordinal()] &= ~squareBit;
+			zobristKey ^= ZobristKeys.PIECE_SQUARE[index][coordinate.getSquareIndex()];
+		}
+		if (piece != null) {
+			int index = bitboardIndex(piece.getColor(), piece.getType());
+			pieceBitboards[index] |= squareBit;
+			colorOccupancy[piece.getColor().ordinal()] |= squareBit;
+			zobristKey ^= ZobristKeys.PIECE_SQUARE[index][coordinate.getSquareIndex()];
+		}
 		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		if (replacedPiece != null && replacedPiece.getType() == PieceType.KING) {
+			updateKingField(replacedPiece.getColor());
+		}
+		if (piece != null && piece.getType() == PieceType.KING) {
+			updateKingField(piece.getColor());
+		}
 	}
 	
 	/**
@@ -62,4 +330,96 @@ public class Board {
 	public Piece getPieceAt(Coordinate coordinate) {
 		return pieces[coordinate.getX()][coordinate.getY()];
 	}
+
+	/**
+	 * Gets chess piece from board based on given square index
+	 * 
+	 * @param square square index of the field
+	 * @return chess piece or null if the field is empty
+	 */
+	public Piece getPieceAt(int square) {
+		return pieces[square % SIZE][square / SIZE];
+	}
+
+	/**
+	 * Gets bitboard of all pieces of given color and type.
+	 * 
+	 * @param color pieces color
+	 * @param type pieces type
+	 * @return mask with bits set on fields occupied by such pieces
+	 */
+	public long getBitboard(Color color, PieceType type) {
+		return pieceBitboards[bitboardIndex(color, type)];
+	}
+
+	/**
+	 * Gets bitboard of all pieces of given color.
+	 * 
+	 * @param color pieces color
+	 * @return mask with bits set on fields occupied by pieces of given color
+	 */
+	public long getOccupancy(Color color) {
+		return colorOccupancy[color.ordinal()];
+	}
+
+	/**
+	 * Gets bitboard of all pieces on the board.
+	 * 
+	 * @return mask with bits set on all occupied fields
+	 */
+	public long getOccupancy() {
+		return colorOccupancy[Color.WHITE.ordinal()] | colorOccupancy[Color.BLACK.ordinal()];
+	}
+
+	/**
+	 * Gets field of the king of given color.
+	 * 
+	 * @param color king color
+	 * @return king field or null if there is no such king on the board
+	 */
+	public Coordinate getKingField(Color color) {
+		return kingFields[color.ordinal()];
+	}
+
+	private void updateKingField(Color color) {
+		long king = getBitboard(color, PieceType.KING);
+		kingFields[color.ordinal()] = king == 0 ? null : Coordinate.of(Long.numberOfTrailingZeros(king));
+	}
+
+	private void removeCastlingRights(Piece piece, int square) {
+		if (piece == null) {
+			return;
+		}
+		Color color = piece.getColor();
+		int homeRank = color == Color.WHITE ? 0 : SIZE - 1;
+		if (piece.getType() == PieceType.KING) {
+			removeCastlingRight(color, CastlingType.KINGSIDE);
+			removeCastlingRight(color, CastlingType.QUEENSIDE);
+		} else if (piece.getType() == PieceType.ROOK && square / SIZE == homeRank) {
+			if (square % SIZE == 0) {
+				removeCastlingRight(color, CastlingType.QUEENSIDE);
+			} else if (square % SIZE == SIZE - 1) {
+				removeCastlingRight(color, CastlingType.KINGSIDE);
+			}
+		}
+	}
+
+	private void updateEnPassantField(int packedMove) {
+		Piece movedPiece = PackedMove.getMovedPiece(packedMove);
+		int from = PackedMove.getFrom(packedMove);
+		int to = PackedMove.getTo(packedMove);
+		if (movedPiece != null && movedPiece.getType() == PieceType.PAWN && Math.abs(to - from) == 2 * SIZE) {
+			setEnPassantField(Coordinate.of((from + to) / 2));
+		} else {
+			setEnPassantField(null);
+		}
+	}
+
+	private static int castlingRightBit(Color color, CastlingType castlingType) {
+		return 1 << (color.ordinal() * CastlingType.values().length + castlingType.ordinal());
+	}
+
+	private static int bitboardIndex(Color color, PieceType type) {
+		return color.ordinal() * PIECE_TYPES + type.ordinal();
+	}
 }
@@ -0,0 +1,216 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.CastlingType;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Forsyth-Edwards Notation (FEN) of board positions: pieces placement, side
+ * to move, castling rights, en passant field, halfmove clock and fullmove
+ * number, like
+ * "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1".
+ *
+ * Boards created from FEN have empty move history. Side to move and the
+ * move clocks are kept as the start ply and start halfmove clock of the
+ * board, so moves made later continue counting from them.
+ *
+ */
+public final class Fen {
+
+	public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_SYMBOLS = "kqbnrp";
+	private static final String CASTLING_SYMBOLS = "KQkq";
+
+	private Fen() {
+	}
+
+	/**
+	 * Creates board with the position described by given FEN. Move clocks
+	 * may be omitted, they default to 0 and 1.
+	 *
+	 * @param fen position in FEN
+	 * @return board with the position and empty move history
+	 * @throws IllegalArgumentException in case the FEN is malformed
+	 */
+	public static Board toBoard(String fen) {
+		String[] fields = fen.trim().split("\\s+");
+		if (fields.length != 4 && fields.length != 6) {
+			throw invalidFen(fen, "expected 4 or 6 fields");
+		}
+
+		Board board = new Board();
+		parsePlacement(board, fen, fields[0]);
+		boolean whiteToMove = parseSideToMove(fen, fields[1]);
+		board.setCastlingRights(parseCastlingRights(fen, fields[2]));
+		board.setEnPassantField(parseEnPassantField(fen, fields[3], whiteToMove));
+
+		int halfmoveClock = fields.length == 6 ? parseNumber(fen, fields[4], 0) : 0;
+		int fullmoveNumber = fields.length == 6 ? parseNumber(fen, fields[5], 1) : 1;
+		board.setStartPly((fullmoveNumber - 1) * 2 + (whiteToMove ? 0 : 1));
+		board.setStartHalfmoveClock(halfmoveClock);
+		return board;
+	}
+
+	/**
+	 * Describes current position of the board in FEN. Castling rights are
+	 * written only if the king and the rook are still on their fields.
+	 *
+	 * @param board chess board
+	 * @return position in FEN
+	 */
+	public static String fromBoard(Board board) {
+		StringBuilder fen = new StringBuilder();
+		for (int y = Board.SIZE - 1; y >= 0; y--) {
+			int emptyFields = 0;
+			for (int x = 0; x < Board.SIZE; x++) {
+				Piece piece = board.getPieceAt(Coordinate.of(x, y));
+				if (piece == null) {
+					emptyFields++;
+					continue;
+				}
+				if (emptyFields > 0) {
+					fen.append(emptyFields);
+					emptyFields = 0;
+				}
+				fen.append(toSymbol(piece));
+			}
+			if (emptyFields > 0) {
+				fen.append(emptyFields);
+			}
+			if (y > 0) {
+				fen.append('/');
+			}
+		}
+
+		int ply = board.getPly();
+		fen.append(ply % 2 == 0 ? " w " : " b ");
+		fen.append(formatCastlingRights(board));
+		fen.append(' ');
+		fen.append(board.getEnPassantField() != null ? board.getEnPassantField().toString() : "-");
+		fen.append(' ').append(board.getHalfmoveClock());
+		fen.append(' ').append(ply / 2 + 1);
+		return fen.toString();
+	}
+
+	private static void parsePlacement(Board board, String fen, String placement) {
+		String[] ranks = placement.split("/", -1);
+		if (ranks.length != Board.SIZE) {
+			throw invalidFen(fen, "expected " + Board.SIZE + " ranks");
+		}
+
+		for (int i = 0; i < ranks.length; i++) {
+			int y = Board.SIZE - 1 - i;
+			int x = 0;
+			for (char symbol : ranks[i].toCharArray()) {
+				if (symbol >= '1' && symbol <= '8') {
+					x += symbol - '0';
+				} else {
+					if (x < Board.SIZE) {
+						board.setPieceAt(toPiece(fen, symbol), Coordinate.of(x, y));
+					}
+					x++;
+				}
+				if (x > Board.SIZE) {
+					throw invalidFen(fen, "rank " + (y + 1) + " is too long");
+				}
+			}
+			if (x != Board.SIZE) {
+				throw invalidFen(fen, "rank " + (y + 1) + " is too short");
+			}
+		}
+	}
+
+	private static boolean parseSideToMove(String fen, String sideToMove) {
+		if ("w".equals(sideToMove)) {
+			return true;
+		}
+		if ("b".equals(sideToMove)) {
+			return false;
+		}
+		throw invalidFen(fen, "unknown side to move " + sideToMove);
+	}
+
+	private static int parseCastlingRights(String fen, String castling) {
+		if ("-".equals(castling)) {
+			return 0;
+		}
+
+		int castlingRights = 0;
+		for (char symbol : castling.toCharArray()) {
+			int index = CASTLING_SYMBOLS.indexOf(symbol);
+			if (index < 0 || (castlingRights & (1 << index)) != 0) {
+				throw invalidFen(fen, "unknown castling rights " + castling);
+			}
+			castlingRights |= 1 << index;
+		}
+		return castlingRights;
+	}
+
+	private static Coordinate parseEnPassantField(String fen, String enPassant, boolean whiteToMove) {
+		if ("-".equals(enPassant)) {
+			return null;
+		}
+
+		// the field is behind a pawn of the opponent which has just moved
+		char rank = whiteToMove ? '6' : '3';
+		if (enPassant.length() != 2 || enPassant.charAt(0) < 'a' || enPassant.charAt(0) > 'h'
+				|| enPassant.charAt(1) != rank) {
+			throw invalidFen(fen, "unknown en passant field " + enPassant);
+		}
+		return Coordinate.of(enPassant.charAt(0) - 'a', enPassant.charAt(1) - '1');
+	}
+
+	private static int parseNumber(String fen, String number, int minimum) {
+		try {
+			int value = Integer.parseInt(number);
+			if (value >= minimum) {
+				return value;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw invalidFen(fen, "wrong move clock " + number);
+	}
+
+	private static String formatCastlingRights(Board board) {
+		StringBuilder castling = new StringBuilder();
+		for (Color color : Color.values()) {
+			for (CastlingType castlingType : CastlingType.values()) {
+				if (isCastlingPossible(board, color, castlingType)) {
+					int index = color.ordinal() * CastlingType.values().length + castlingType.ordinal();
+					castling.append(CASTLING_SYMBOLS.charAt(index));
+				}
+			}
+		}
+		return castling.length() > 0 ? castling.toString() : "-";
+	}
+
+	private static boolean isCastlingPossible(Board board, Color color, CastlingType castlingType) {
+		int rank = color == Color.WHITE ? 0 : Board.SIZE - 1;
+		int rookFile = castlingType == CastlingType.KINGSIDE ? Board.SIZE - 1 : 0;
+		return board.hasCastlingRight(color, castlingType)
+				&& Piece.of(color, PieceType.KING).equals(board.getPieceAt(Coordinate.of(4, rank)))
+				&& Piece.of(color, PieceType.ROOK).equals(board.getPieceAt(Coordinate.of(rookFile, rank)));
+	}
+
+	private static Piece toPiece(String fen, char symbol) {
+		int index = PIECE_SYMBOLS.indexOf(Character.toLowerCase(symbol));
+		if (index < 0) {
+			throw invalidFen(fen, "unknown piece " + symbol);
+		}
+		Color color = Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK;
+		return Piece.of(color, PieceType.values()[index]);
+	}
+
+	private static char toSymbol(Piece piece) {
+		char symbol = PIECE_SYMBOLS.charAt(piece.getType().ordinal());
+		return piece.getColor() == Color.WHITE ? Character.toUpperCase(symbol) : symbol;
+	}
+
+	private static IllegalArgumentException invalidFen(String fen, String reason) {
+		return new IllegalArgumentException("Invalid FEN \"" + fen + "\": " + reason);
+	}
+}
@@ -0,0 +1,175 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Move history of the board stored as moves packed by {@link PackedMove},
+ * together with the halfmove clock after every move, so the clock is known
+ * in O(1) however the moves were added or removed.
+ *
+ * As a list it is a view which creates {@link Move} objects on access. Moves
+ * added through the view are packed with the fields they carry and without
+ * captured piece, which {@link Move} does not know. Moves appended at the end
+ * go through {@link Board#addMove(int)}, so castling rights and en passant
+ * field of the board follow them; moves inserted before the end or replaced
+ * leave them unchanged.
+ *
+ * Halfmove clock is the number of moves since the last capture or pawn move,
+ * decided by the packed pieces and not by the move type. Moves added or
+ * removed at the end of the history update the clock in constant time, other
+ * changes recount it from the changed index.
+ *
+ */
+class MoveHistory extends AbstractList<Move> implements RandomAccess {
+
+	private int[] moves = new int[64];
+	private int[] halfmoveClocks = new int[64];
+	private int size;
+	private int initialHalfmoveClock;
+	private final Board board;
+
+	MoveHistory(Board board) {
+		this.board = board;
+	}
+
+	MoveHistory(MoveHistory moveHistory, Board board) {
+		this.board = board;
+		this.moves = moveHistory.moves.clone();
+		this.halfmoveClocks = moveHistory.halfmoveClocks.clone();
+		this.size = moveHistory.size;
+		this.initialHalfmoveClock = moveHistory.initialHalfmoveClock;
+	}
+
+	@Override
+	public Move get(int index) {
+		return PackedMove.toMove(getPacked(index));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Move set(int index, Move move) {
+		Move replacedMove = get(index);
+		moves[index] = PackedMove.pack(move, null);
+		updateHalfmoveClocks(index);
+		return replacedMove;
+	}
+
+	@Override
+	public void add(int index, Move move) {
+		if (index == size) {
+			// castling rights and en passant field follow appended moves
+			board.addMove(PackedMove.pack(move, null));
+		} else {
+			addPacked(index, PackedMove.pack(move, null));
+		}
+	}
+
+	@Override
+	public Move remove(int index) {
+		Move removedMove = get(index);
+		System.arraycopy(moves, index + 1, moves, index, size - index - 1);
+		size--;
+		modCount++;
+		updateHalfmoveClocks(index);
+		return removedMove;
+	}
+
+	/**
+	 * Gets packed move of given index.
+	 *
+	 * @param index
+	 *            index of the move
+	 * @return packed move
+	 */
+	int getPacked(int index) {
+		checkIndex(index, size);
+		return moves[index];
+	}
+
+	/**
+	 * Appends packed move to the history.
+	 *
+	 * @param packedMove
+	 *            packed move
+	 */
+	void addPacked(int packedMove) {
+		addPacked(size, packedMove);
+	}
+
+	/**
+	 * Removes the last move of the history.
+	 *
+	 * @return removed packed move
+	 */
+	int removeLastPacked() {
+		checkIndex(size - 1, size);
+		modCount++;
+		return moves[--size];
+	}
+
+	/**
+	 * Gets number of moves since the last capture or pawn move.
+	 *
+	 * @return halfmove clock after the last move of the history
+	 */
+	int getHalfmoveClock() {
+		return size == 0 ? initialHalfmoveClock : halfmoveClocks[size - 1];
+	}
+
+	/**
+	 * Sets halfmove clock of the position before the first move of the
+	 * history.
+	 *
+	 * @param initialHalfmoveClock
+	 *            number of moves since the last capture or pawn move
+	 */
+	void setInitialHalfmoveClock(int initialHalfmoveClock) {
+		this.initialHalfmoveClock = initialHalfmoveClock;
+		updateHalfmoveClocks(0);
+	}
+
+	private void addPacked(int index, int packedMove) {
+		checkIndex(index, size + 1);
+		if (size == moves.length) {
+			moves = Arrays.copyOf(moves, size * 2);
+			halfmoveClocks = Arrays.copyOf(halfmoveClocks, size * 2);
+		}
+		System.arraycopy(moves, index, moves, index + 1, size - index);
+		moves[index] = packedMove;
+		size++;
+		modCount++;
+		updateHalfmoveClocks(index);
+	}
+
+	private void updateHalfmoveClocks(int fromIndex) {
+		for (int i = fromIndex; i < size; i++) {
+			int previousClock = i == 0 ? initialHalfmoveClock : halfmoveClocks[i - 1];
+			halfmoveClocks[i] = resetsHalfmoveClock(moves[i]) ? 0 : previousClock + 1;
+		}
+	}
+
+	private static boolean resetsHalfmoveClock(int packedMove) {
+		if (PackedMove.getCapturedPiece(packedMove) != null) {
+			return true;
+		}
+		Piece movedPiece = PackedMove.getMovedPiece(packedMove);
+		return movedPiece != null && movedPiece.getType() == PieceType.PAWN;
+	}
+
+	private void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
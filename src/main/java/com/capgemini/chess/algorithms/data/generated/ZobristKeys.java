@@ -0,0 +1,51 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import java.util.Random;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Random 64-bit keys used to compute Zobrist hash of the board. The hash is
+ * XOR of keys of all pieces on their fields, of the castling rights, of the en
+ * passant file and of the side to move. Keys are generated from a fixed seed,
+ * so hashes are the same in every run.
+ *
+ */
+final class ZobristKeys {
+
+	static final long[][] PIECE_SQUARE = new long[Color.values().length
+			* PieceType.values().length][Board.SIZE * Board.SIZE];
+	static final long[] CASTLING_RIGHTS = new long[Board.ALL_CASTLING_RIGHTS + 1];
+	static final long[] EN_PASSANT_FILE = new long[Board.SIZE];
+	static final long BLACK_TO_MOVE;
+
+	static {
+		Random random = new Random(0x3C6EF372FE94F82BL);
+		for (long[] squares : PIECE_SQUARE) {
+			for (int i = 0; i < squares.length; i++) {
+				squares[i] = random.nextLong();
+			}
+		}
+		// rights are packed as independent bits, so a combination is XOR of
+		// its single rights
+		long[] singleRights = new long[Integer.bitCount(Board.ALL_CASTLING_RIGHTS)];
+		for (int i = 0; i < singleRights.length; i++) {
+			singleRights[i] = random.nextLong();
+		}
+		for (int rights = 0; rights < CASTLING_RIGHTS.length; rights++) {
+			for (int i = 0; i < singleRights.length; i++) {
+				if ((rights & (1 << i)) != 0) {
+					CASTLING_RIGHTS[rights] ^= singleRights[i];
+				}
+			}
+		}
+		for (int i = 0; i < EN_PASSANT_FILE.length; i++) {
+			EN_PASSANT_FILE[i] = random.nextLong();
+		}
+		BLACK_TO_MOVE = random.nextLong();
+	}
+
+	private ZobristKeys() {
+	}
+}
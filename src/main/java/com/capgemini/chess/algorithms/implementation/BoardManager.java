@@ -1,20 +1,21 @@
 package com.capgemini.chess.algorithms.implementation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.capgemini.chess.algorithms.chesspieces.Bishop;
-import com.capgemini.chess.algorithms.chesspieces.King;
-import com.capgemini.chess.algorithms.chesspieces.Knight;
-import com.capgemini.chess.algorithms.chesspieces.Pawn;
+import com.capgemini.chess.algorithms.attacks.AttackTables;
+import com.capgemini.chess.algorithms.attacks.SlidingAttacks;
+import com.capgemini.chess.algorithms.chesspieces.MovementRules;
 import com.capgemini.chess.algorithms.chesspieces.Piece;
-import com.capgemini.chess.algorithms.chesspieces.Queen;
-import com.capgemini.chess.algorithms.chesspieces.Rook;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.CastlingType;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.AnotherPieceBlocksException;
@@ -22,6 +23,8 @@ import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveExcep
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
 import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
 
 /**
  * Class for managing of basic operations on the Chess Board.
@@ -31,7 +34,36 @@ import com.capgemini.chess.algorithms.movements.Move;
  */
 public class BoardManager {
 
+	private static final PieceType[] BACK_RANK = { PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP,
+			PieceType.QUEEN, PieceType.KING, PieceType.BISHOP, PieceType.KNIGHT, PieceType.ROOK };
+	private static final PieceType[] PROMOTIONS = { PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+			PieceType.KNIGHT };
+	// piece values of static exchange evaluation, indexed by PieceType
+	// ordinal: king, queen, bishop, knight, rook, pawn
+	private static final int[] EXCHANGE_VALUES = { 20000, 900, 330, 320, 500, 100 };
+	// order in which pieces recapture, from the least valuable
+	private static final PieceType[] RECAPTURE_ORDER = { PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP,
+			PieceType.ROOK, PieceType.QUEEN, PieceType.KING };
+
 	private Board board = new Board();
+	// undo records are reused, so making and taking back moves does not
+	// allocate once the stack is deep enough
+	private MoveUndo[] undoStack = new MoveUndo[64];
+	private int undoStackSize;
+	// move used to test candidate moves before a Move is created for them
+	private final Move candidateMove = new Move();
+	// legality masks of the player to move, see computeLegalityMasks
+	private long checkers;
+	private long checkMask;
+	private long pinned;
+	private final long[] pinRays = new long[Board.SIZE * Board.SIZE];
+	private long opponentAttacks;
+	// move list reused for legal targets of a piece
+	private final MoveList targetMoves = new MoveList();
+	// move lists reused by perft, one per remaining depth
+	private MoveList[] perftMoveLists = new MoveList[0];
+	// material balance after every capture of static exchange evaluation
+	private final int[] exchangeGains = new int[Board.SIZE * Board.SIZE];
 
 	/**
 	 * Default constructor initializing starting positions of all pieces.
@@ -49,7 +81,7 @@ public class BoardManager {
 	public BoardManager(List<Move> moves) {
 		initBoard();
 		for (Move move : moves) {
-			addMove(move);
+			makeMove(move);
 		}
 	}
 
@@ -87,11 +119,59 @@ public class BoardManager {
 
 		Move move = validateMove(from, to);
 
-		addMove(move);
+		makeMove(move);
 
 		return move;
 	}
 
+	/**
+	 * Makes given move on the board without validation and remembers
+	 * everything needed to take it back with {@link #unmakeMove()}.
+	 *
+	 * @param move
+	 *            move to make, its type decides about castling and en passant
+	 */
+	public void makeMove(Move move) {
+		makeMove(move, move.getFrom(), move.getTo(), move.getType(), move.getPromotion());
+	}
+
+	/**
+	 * Makes given packed move (see {@link PackedMove}) on the board without
+	 * validation. Unlike {@link #makeMove(Move)} it does not allocate.
+	 *
+	 * @param packedMove
+	 *            move to make, its type decides about castling and en passant
+	 */
+	public void makeMove(int packedMove) {
+		makeMove(null, Coordinate.of(PackedMove.getFrom(packedMove)), Coordinate.of(PackedMove.getTo(packedMove)),
+				PackedMove.getType(packedMove), PackedMove.getPromotion(packedMove));
+	}
+
+	/**
+	 * Takes back the last move made on the board, restoring captured pieces,
+	 * promoted pawns, castled rooks, castling rights and en passant field.
+	 *
+	 * @return move which has been taken back
+	 * @throws IllegalStateException
+	 *             in case there is no move to take back
+	 */
+	public Move unmakeMove() {
+		MoveUndo undo = takeBackMove();
+		return undo.getMove() != null ? undo.getMove() : PackedMove.toMove(undo.getPackedMove());
+	}
+
+	/**
+	 * Takes back the last move made on the board like {@link #unmakeMove()},
+	 * but without allocating.
+	 *
+	 * @return packed move which has been taken back
+	 * @throws IllegalStateException
+	 *             in case there is no move to take back
+	 */
+	public int unmakePackedMove() {
+		return takeBackMove().getPackedMove();
+	}
+
 	/**
 	 * Calculates state of the chess board.
 	 *
@@ -103,7 +183,7 @@ public class BoardManager {
 		Color nextMoveColor = calculateNextMoveColor();
 
 		boolean isKingInCheck = isKingInCheck(nextMoveColor);
-		boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor);
+		boolean isAnyMoveValid = isAnyMoveValid();
 
 		BoardState boardState;
 		if (isKingInCheck) {
@@ -123,6 +203,17 @@ public class BoardManager {
 		return boardState;
 	}
 
+	/**
+	 * Checks if king of the player who is about to move is attacked.
+	 *
+	 * @return true if the player to move is in check
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public boolean isInCheck() throws NoKingOnTheBoard {
+		return isKingInCheck(calculateNextMoveColor());
+	}
+
 	/**
 	 * Checks threefold repetition rule (one of the conditions to end the chess
 	 * game with a draw).
@@ -131,19 +222,16 @@ public class BoardManager {
 	 */
 	public boolean checkThreefoldRepetitionRule() {
 
-		// there is no need to check moves that where before last capture/en
-		// passant/castling
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
+		// there is no need to check positions before the last capture or pawn
+		// move, they cannot be repeated; only positions with the same player
+		// to move, every second one, can be equal
+		int lastMoveIndex = this.board.getMoveHistory().size() - 1;
+		int firstMoveIndex = Math.max(0, lastMoveIndex - this.board.getHalfmoveClock());
+		long currentKey = this.board.getZobristKey();
+
+		int counter = lastMoveIndex >= 0 ? 1 : 0;
+		for (int i = lastMoveIndex - 2; i >= firstMoveIndex; i -= 2) {
+			if (this.board.getPositionKey(i) == currentKey) {
 				counter++;
 			}
 		}
@@ -162,389 +250,928 @@ public class BoardManager {
 
 		// for this purpose a "move" consists of a player completing his turn
 		// followed by his opponent completing his turn
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
+		return this.board.getHalfmoveClock() >= 100;
+	}
+
+	/**
+	 * Generates all legal moves of the player who is about to move.
+	 *
+	 * @return list of legal moves, empty in case of mate or stalemate
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public List<Move> generateLegalMoves() throws NoKingOnTheBoard {
+		MoveList legalMoves = new MoveList();
+		generateLegalMoves(legalMoves);
+		return toMoves(legalMoves);
+	}
+
+	/**
+	 * Generates all legal moves of the player who is about to move as packed
+	 * moves (see {@link PackedMove}). Nothing is allocated when the list is
+	 * big enough.
+	 *
+	 * @param legalMoves
+	 *            list to be cleared and filled with legal moves
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public void generateLegalMoves(MoveList legalMoves) throws NoKingOnTheBoard {
+		Color nextMoveColor = calculateNextMoveColor();
+		computeLegalityMasks(nextMoveColor, findCurrentKingPosition(nextMoveColor));
+		legalMoves.clear();
+
+		for (long ownPieces = board.getOccupancy(nextMoveColor); ownPieces != 0; ownPieces &= ownPieces - 1) {
+			Coordinate from = toCoordinate(Long.numberOfTrailingZeros(ownPieces));
+			addLegalMoves(from, board.getPieceAt(from), legalMoves);
 		}
+	}
 
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.ATTACK || currentPieceType == PieceType.PAWN) {
-				return false;
-			}
+	/**
+	 * Generates legal captures, en passant captures and promotions of the
+	 * player who is about to move as packed moves (see {@link PackedMove}).
+	 * Castling and other quiet moves are left out.
+	 *
+	 * @param legalMoves
+	 *            list to be cleared and filled with legal moves
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public void generateTacticalMoves(MoveList legalMoves) throws NoKingOnTheBoard {
+		Color nextMoveColor = calculateNextMoveColor();
+		computeLegalityMasks(nextMoveColor, findCurrentKingPosition(nextMoveColor));
+		legalMoves.clear();
+
+		for (long ownPieces = board.getOccupancy(nextMoveColor); ownPieces != 0; ownPieces &= ownPieces - 1) {
+			Coordinate from = toCoordinate(Long.numberOfTrailingZeros(ownPieces));
+			addTacticalMoves(from, board.getPieceAt(from), legalMoves);
 		}
+	}
 
-		return true;
+	/**
+	 * Checks if the player who is about to move has any legal move. Search
+	 * stops at the first legal move found.
+	 *
+	 * @return false in case of mate or stalemate
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public boolean hasLegalMoves() throws NoKingOnTheBoard {
+		return isAnyMoveValid();
 	}
 
-	// PRIVATE
+	/**
+	 * Generates all legal moves of the piece standing on given field.
+	 *
+	 * @param from
+	 *            coordinates of the piece
+	 * @return list of legal moves, empty if there is no piece of the player
+	 *         to move on given field
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public List<Move> generateLegalMoves(Coordinate from) throws NoKingOnTheBoard {
+		MoveList legalMoves = new MoveList();
+		addLegalMovesOfPlayerPiece(from, legalMoves);
+		return toMoves(legalMoves);
+	}
 
-	private void initBoard() {
+	/**
+	 * Gets fields where the piece standing on given field can legally move,
+	 * for example to highlight them when the piece is clicked.
+	 *
+	 * @param from
+	 *            coordinates of the piece
+	 * @return mask with bits set on target fields (bit number is square
+	 *         index, see {@link Coordinate#getSquareIndex()}), 0 if there is
+	 *         no piece of the player to move on given field
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public long getLegalTargets(Coordinate from) throws NoKingOnTheBoard {
+		this.targetMoves.clear();
+		addLegalMovesOfPlayerPiece(from, this.targetMoves);
+		long targets = 0L;
+		for (int i = 0; i < this.targetMoves.size(); i++) {
+			targets |= 1L << PackedMove.getTo(this.targetMoves.get(i));
+		}
+		return targets;
+	}
 
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 7));
-		this.board.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 7));
-		this.board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(5, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(6, 7));
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 7));
+	/**
+	 * Gets fields where the piece standing on given field can legally move.
+	 *
+	 * @param from
+	 *            coordinates of the piece
+	 * @return target fields ordered by square index, empty if there is no
+	 *         piece of the player to move on given field
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 * @see #getLegalTargets(Coordinate)
+	 */
+	public List<Coordinate> getLegalTargetFields(Coordinate from) throws NoKingOnTheBoard {
+		List<Coordinate> fields = new ArrayList<>();
+		for (long targets = getLegalTargets(from); targets != 0; targets &= targets - 1) {
+			fields.add(toCoordinate(Long.numberOfTrailingZeros(targets)));
+		}
+		return fields;
+	}
 
-		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(x, 6));
+	/**
+	 * Counts leaf nodes of the legal move tree of given depth (perft). The
+	 * board is left in the same position after the count.
+	 *
+	 * @param depth
+	 *            number of plies to search
+	 * @return number of move sequences of given length
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public long perft(int depth) throws NoKingOnTheBoard {
+		if (depth <= 0) {
+			return 1;
 		}
 
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(2, 0));
-		this.board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
-		this.board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(5, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(6, 0));
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		MoveList legalMoves = perftMoveList(depth);
+		generateLegalMoves(legalMoves);
+		if (depth == 1) {
+			return legalMoves.size();
+		}
+		long nodes = 0;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			makeMove(legalMoves.get(i));
+			nodes += perft(depth - 1);
+			takeBackMove();
+		}
+		return nodes;
+	}
 
-		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(x, 1));
+	/**
+	 * Counts perft leaf nodes separately for every legal move of the player
+	 * to move and measures time of the count.
+	 *
+	 * @param depth
+	 *            number of plies to search, at least 1
+	 * @return node counts per root move with timing
+	 * @throws NoKingOnTheBoard
+	 *             in case the player to move has no king
+	 */
+	public PerftResult divide(int depth) throws NoKingOnTheBoard {
+		if (depth < 1) {
+			throw new IllegalArgumentException("Divide depth must be at least 1");
+		}
+
+		long start = System.nanoTime();
+		Map<Move, Long> nodesPerMove = new LinkedHashMap<>();
+		for (Move move : generateLegalMoves()) {
+			makeMove(move);
+			nodesPerMove.put(move, perft(depth - 1));
+			unmakeMove();
 		}
+		return new PerftResult(depth, nodesPerMove, System.nanoTime() - start);
 	}
 
-	private void addMove(Move move) {
+	/**
+	 * Evaluates exchange of pieces on the 'to' field started by moving the
+	 * piece from the 'from' field there (static exchange evaluation). Players
+	 * recapture in turn with their least valuable piece attacking the field,
+	 * pieces attacking through the ones which have already captured included,
+	 * and stop when the next capture would lose material. Pins and checks are
+	 * not taken into account, so neither is legality of the move.
+	 *
+	 * Pieces are valued: pawn 100, knight 320, bishop 330, rook 500, queen 900.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return material won by the player moving from 'from' field, in
+	 *         centipawns, negative if the move loses material
+	 * @throws IllegalArgumentException
+	 *             in case there is no piece on 'from' field
+	 */
+	public int staticExchange(Coordinate from, Coordinate to) {
+		Piece piece = this.board.getPieceAt(from);
+		if (piece == null) {
+			throw new IllegalArgumentException("No piece on field " + from);
+		}
 
-		addRegularMove(move);
+		int square = to.getSquareIndex();
+		long occupancy = this.board.getOccupancy() & ~(1L << from.getSquareIndex());
+		Piece target = this.board.getPieceAt(to);
+		int[] gains = this.exchangeGains;
+		if (target != null) {
+			gains[0] = EXCHANGE_VALUES[target.getType().ordinal()];
+		} else if (piece.getType() == PieceType.PAWN && isEnPassantPossible(from, to, piece)) {
+			gains[0] = EXCHANGE_VALUES[PieceType.PAWN.ordinal()];
+			occupancy &= ~(1L << Coordinate.of(to.getX(), from.getY()).getSquareIndex());
+		} else {
+			gains[0] = 0;
+		}
 
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
+		// value of the piece standing on the field, to be captured next
+		int pieceValue = EXCHANGE_VALUES[piece.getType().ordinal()];
+		Color color = piece.getColor().getOpponent();
+		int depth = 0;
+		while (true) {
+			long attackers = attackersOf(square, occupancy, color);
+			if (attackers == 0) {
+				break;
+			}
+			PieceType attackerType = null;
+			long attacker = 0L;
+			for (PieceType type : RECAPTURE_ORDER) {
+				attacker = attackers & this.board.getBitboard(color, type);
+				if (attacker != 0) {
+					attackerType = type;
+					attacker = Long.lowestOneBit(attacker);
+					break;
+				}
+			}
+			// king cannot capture a defended piece
+			if (attackerType == PieceType.KING
+					&& attackersOf(square, occupancy & ~attacker, color.getOpponent()) != 0) {
+				break;
+			}
+
+			depth++;
+			gains[depth] = pieceValue - gains[depth - 1];
+			if (Math.max(-gains[depth - 1], gains[depth]) < 0) {
+				// neither this capture nor the following ones change the
+				// result
+				break;
+			}
+			occupancy &= ~attacker;
+			pieceValue = EXCHANGE_VALUES[attackerType.ordinal()];
+			color = color.getOpponent();
 		}
 
-		this.board.getMoveHistory().add(move);
+		// every player may stop capturing when it does not pay off
+		for (; depth > 0; depth--) {
+			gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+		}
+		return gains[0];
 	}
 
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
-
-		performPromotion(move, movedPiece);
+	/**
+	 * Validates move of the chess piece from one field to another without
+	 * throwing exceptions.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return VALID or the reason why the move is not valid
+	 */
+	public MoveValidationResult checkMove(Coordinate from, Coordinate to) {
+		MoveValidationResult result = checkFields(from, to);
+		if (!result.isValid()) {
+			return result;
+		}
+		Piece piece = board.getPieceAt(from);
+		return checkMove(setCandidateMove(from, to, piece, determineMoveType(from, to, piece)));
 	}
 
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece.equals(new Pawn(Color.WHITE)) && move.getTo().getY() == (Board.SIZE - 1)) {
-			this.board.setPieceAt(new Queen(Color.WHITE), move.getTo());
+	// PRIVATE
+
+	private MoveValidationResult checkFields(Coordinate from, Coordinate to) {
+		if (!isInBounds(from.getX(), from.getY()) || !isInBounds(to.getX(), to.getY())) {
+			return MoveValidationResult.OUT_OF_BOUNDS;
 		}
-		if (movedPiece.equals(new Pawn(Color.BLACK)) && move.getTo().getY() == 0) {
-			this.board.setPieceAt(new Queen(Color.BLACK), move.getTo());
+		if (from.equals(to)) {
+			return MoveValidationResult.SAME_FIELD;
 		}
+		Piece piece = board.getPieceAt(from);
+		if (piece == null) {
+			return MoveValidationResult.NO_PIECE;
+		}
+		if (piece.getColor() != calculateNextMoveColor()) {
+			return MoveValidationResult.WRONG_COLOR;
+		}
+		Piece target = board.getPieceAt(to);
+		if (target != null && target.getColor() == piece.getColor()) {
+			return MoveValidationResult.OWN_PIECE;
+		}
+		return MoveValidationResult.VALID;
 	}
 
-	private void addCastling(Move move) {
-		// if czy krol ruszyl sie w lewo czy w prawo
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			// krol w lewo, roszada dluga
-			Piece rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
-		} else {
-			// krol w prawo, roszada krotka
-			Piece rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
+	private void initBoard() {
+
+		for (int x = 0; x < Board.SIZE; x++) {
+			this.board.setPieceAt(Piece.of(Color.BLACK, BACK_RANK[x]), Coordinate.of(x, 7));
+			this.board.setPieceAt(Piece.of(Color.BLACK, PieceType.PAWN), Coordinate.of(x, 6));
+			this.board.setPieceAt(Piece.of(Color.WHITE, PieceType.PAWN), Coordinate.of(x, 1));
+			this.board.setPieceAt(Piece.of(Color.WHITE, BACK_RANK[x]), Coordinate.of(x, 0));
 		}
 	}
 
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
+	private void makeMove(Move move, Coordinate from, Coordinate to, MoveType type, PieceType promotion) {
+		Piece movedPiece = this.board.getPieceAt(from);
+		Coordinate capturedField = to;
+		if (type == MoveType.EN_PASSANT) {
+			capturedField = Coordinate.of(to.getX(), from.getY());
+		}
+		Piece capturedPiece = this.board.getPieceAt(capturedField);
+		if (type == null) {
+			type = capturedPiece != null ? MoveType.CAPTURE : MoveType.ATTACK;
+		}
+		int packedMove = PackedMove.pack(from.getSquareIndex(), to.getSquareIndex(), movedPiece, capturedPiece, type,
+				promotion);
+
+		pushUndo().set(move, packedMove, movedPiece, capturedField, this.board.getCastlingRights(),
+				this.board.getEnPassantField());
+
+		this.board.setPieceAt(null, capturedField);
+		this.board.setPieceAt(null, from);
+		this.board.setPieceAt(movedPiece, to);
+		performPromotion(to, promotion, movedPiece);
+		if (type == MoveType.CASTLING) {
+			moveCastlingRook(from, to, false);
+		}
+
+		// castling rights and en passant field are updated by the board
+		this.board.addMove(packedMove);
+		this.board.recordPositionKey();
 	}
 
-	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException {
+	private MoveUndo takeBackMove() {
+		if (this.undoStackSize == 0) {
+			throw new IllegalStateException("No move to take back");
+		}
+		MoveUndo undo = this.undoStack[--this.undoStackSize];
+		int packedMove = undo.getPackedMove();
+		Coordinate from = Coordinate.of(PackedMove.getFrom(packedMove));
+		Coordinate to = Coordinate.of(PackedMove.getTo(packedMove));
 
-		areCoordinatesInBounds(from, to);
-		isFromDifferentThanTo(from, to);
+		if (PackedMove.getType(packedMove) == MoveType.CASTLING) {
+			moveCastlingRook(from, to, true);
+		}
+		this.board.setPieceAt(null, to);
+		this.board.setPieceAt(undo.getMovedPiece(), from);
+		this.board.setPieceAt(PackedMove.getCapturedPiece(packedMove), undo.getCapturedField());
+		this.board.setCastlingRights(undo.getCastlingRights());
+		this.board.setEnPassantField(undo.getEnPassantField());
+
+		this.board.removeLastMove();
+		this.board.discardPositionKeys();
+		return undo;
+	}
 
-		Piece piece = isFromPieceCorrectColor(from);
+	private MoveList perftMoveList(int depth) {
+		if (depth >= this.perftMoveLists.length) {
+			this.perftMoveLists = Arrays.copyOf(this.perftMoveLists, depth + 1);
+		}
+		if (this.perftMoveLists[depth] == null) {
+			this.perftMoveLists[depth] = new MoveList();
+		}
+		return this.perftMoveLists[depth];
+	}
 
-		Move newMove = determineMoveType(from, to, piece);
-		
-		if (newMove.getType() == MoveType.ATTACK)
-		piece.isAttackPossible(from, to);
-		if (newMove.getType() == MoveType.CAPTURE)
-		piece.isCapturePossible(from, to);
-		
-		isAnyPieceBlocking(from, to);
-		willKingBeInCheckAfter(newMove);
+	private MoveUndo pushUndo() {
+		if (this.undoStackSize == this.undoStack.length) {
+			this.undoStack = Arrays.copyOf(this.undoStack, this.undoStackSize * 2);
+		}
+		MoveUndo undo = this.undoStack[this.undoStackSize];
+		if (undo == null) {
+			undo = new MoveUndo();
+			this.undoStack[this.undoStackSize] = undo;
+		}
+		this.undoStackSize++;
+		return undo;
+	}
 
-		return newMove;
+	private void performPromotion(Coordinate to, PieceType promotion, Piece movedPiece) {
+		if (movedPiece.getType() != PieceType.PAWN) {
+			return;
+		}
+		Color color = movedPiece.getColor();
+		if (isPromotionField(to, color)) {
+			this.board.setPieceAt(Piece.of(color, promotion != null ? promotion : PieceType.QUEEN), to);
+		}
 	}
 
-	private void isFromDifferentThanTo(Coordinate from, Coordinate to) throws InvalidMoveException {
-		if (from.equals(to))
-			throw new InvalidMoveException("Cannot stay in place");
+	private void moveCastlingRook(Coordinate from, Coordinate to, boolean takeBack) {
+		Coordinate corner;
+		Coordinate rookField;
+		// if czy krol ruszyl sie w lewo czy w prawo
+		if (from.getX() > to.getX()) {
+			// krol w lewo, roszada dluga
+			corner = Coordinate.of(0, from.getY());
+			rookField = Coordinate.of(to.getX() + 1, to.getY());
+		} else {
+			// krol w prawo, roszada krotka
+			corner = Coordinate.of(Board.SIZE - 1, from.getY());
+			rookField = Coordinate.of(to.getX() - 1, to.getY());
+		}
+		if (takeBack) {
+			Coordinate swap = corner;
+			corner = rookField;
+			rookField = swap;
+		}
+		Piece rook = this.board.getPieceAt(corner);
+		this.board.setPieceAt(null, corner);
+		this.board.setPieceAt(rook, rookField);
 	}
 
-	private void willKingBeInCheckAfter(Move newMove) throws KingInCheckException, NoKingOnTheBoard {
-		Piece piece = newMove.getMovedPiece();
-		Coordinate from = newMove.getFrom();
-		Coordinate to = newMove.getTo();
+	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException {
+
+		MoveValidationResult result = checkFields(from, to);
+		Move newMove = null;
+		if (result.isValid()) {
+			Piece piece = board.getPieceAt(from);
+			newMove = createMove(from, to, piece, determineMoveType(from, to, piece));
+			result = checkMove(newMove);
+		}
 
-		board.setPieceAt(piece, to);
-		board.setPieceAt(null, from);
-		if (isKingInCheck(piece.getColor())) {
-			board.setPieceAt(null, to);
-			board.setPieceAt(piece, from);
+		switch (result) {
+		case VALID:
+			return newMove;
+		case BLOCKED:
+			throw new AnotherPieceBlocksException();
+		case LEAVES_KING_IN_CHECK:
 			throw new KingInCheckException();
-		} else {
-			board.setPieceAt(null, to);
-			board.setPieceAt(piece, from);
+		case NO_KING:
+			throw new NoKingOnTheBoard();
+		default:
+			throw new InvalidMoveException(result.getMessage());
 		}
 	}
 
-	private void isAnyPieceBlocking(Coordinate from, Coordinate to) throws AnotherPieceBlocksException {
+	private MoveValidationResult checkMove(Move move) {
+		Piece piece = move.getMovedPiece();
+		Coordinate from = move.getFrom();
+		Coordinate to = move.getTo();
+
+		MoveValidationResult result = MoveValidationResult.VALID;
+		if (move.getType() == MoveType.ATTACK) {
+			result = MovementRules.validateAttack(piece.getType(), piece.getColor(), from, to);
+		} else if (move.getType() == MoveType.CAPTURE) {
+			result = MovementRules.validateCapture(piece.getType(), piece.getColor(), from, to);
+		} else if (move.getType() == MoveType.CASTLING && !isCastlingAllowed(move)) {
+			result = MoveValidationResult.CASTLING_NOT_ALLOWED;
+		}
+		if (!result.isValid()) {
+			return result;
+		}
 
-		int deltaX = Math.abs(from.getX() - to.getX());
-		int deltaY = Math.abs(from.getY() - to.getY());
+		if (!isPathClear(from, to)) {
+			return MoveValidationResult.BLOCKED;
+		}
+		if (board.getKingField(piece.getColor()) == null) {
+			return MoveValidationResult.NO_KING;
+		}
+		if (isKingInCheckAfter(move)) {
+			return MoveValidationResult.LEAVES_KING_IN_CHECK;
+		}
+		return MoveValidationResult.VALID;
+	}
 
-		if (deltaY == 0) {
-			int iter_start = from.getX() < to.getX() ? from.getX() : to.getX();
-			for (int i = iter_start + 1; i < iter_start + deltaX; i++) {
-				if (board.getPieceAt(new Coordinate(i, from.getY())) != null)
-					throw new AnotherPieceBlocksException();
-			}
-		} else if (deltaX == 0) {
-			int iter_start = from.getY() < to.getY() ? from.getY() : to.getY();
-			for (int i = iter_start + 1; i < iter_start + deltaY; i++) {
-				if (board.getPieceAt(new Coordinate(from.getX(), i)) != null)
-					throw new AnotherPieceBlocksException();
-			}
-		} else if (deltaX == deltaY) {
-			int iter_start = from.getY() < to.getY() ? from.getY() : to.getY();
-			int start = from.getX() < to.getX() ? from.getX() : to.getX();
-			for (int i = iter_start + 1, k = start + 1; i < iter_start + deltaY; i++, k++) {
-				if (board.getPieceAt(new Coordinate(k, i)) != null)
-					throw new AnotherPieceBlocksException();
-			}
+	private boolean isKingInCheckAfter(Move newMove) {
+		makeMove(newMove);
+		try {
+			return isKingAttacked(newMove.getMovedPiece().getColor());
+		} finally {
+			unmakeMove();
 		}
 	}
 
-	private void verifyCastlingConditions(Move newMove) throws InvalidMoveException {
+	private boolean isPathClear(Coordinate from, Coordinate to) {
+		long between = AttackTables.between(from.getSquareIndex(), to.getSquareIndex());
+		return (between & board.getOccupancy()) == 0;
+	}
 
+	private boolean isCastlingAllowed(Move newMove) {
+
+		Color color = newMove.getMovedPiece().getColor();
 		CastlingType castlingType = newMove.getFrom().getX() > newMove.getTo().getX() ? CastlingType.QUEENSIDE
 				: CastlingType.KINGSIDE;
-
-		if (isKingInCheck(newMove.getMovedPiece().getColor()))
-			throw new InvalidMoveException("King under check cannot castle");
-		piecesDidNotMoveBefore(newMove, castlingType);
-		noPiecesInBetween(newMove, castlingType);
-		kingDoesNotPassAttackedField(newMove, castlingType);
-
+		int y = newMove.getFrom().getY();
+		Coordinate corner = Coordinate.of(castlingType == CastlingType.QUEENSIDE ? 0 : Board.SIZE - 1, y);
+		Coordinate passedField = Coordinate.of(castlingType == CastlingType.QUEENSIDE ? 3 : 5, y);
+		Piece rook = board.getPieceAt(corner);
+
+		// king under check cannot castle, nor castle throw attacked field
+		return this.board.hasCastlingRight(color, castlingType) && rook != null
+				&& rook.getType() == PieceType.ROOK && rook.getColor() == color
+				&& isPathClear(newMove.getFrom(), corner)
+				&& !isFieldAttackedByOpponent(color, newMove.getFrom())
+				&& !isFieldAttackedByOpponent(color, passedField);
 	}
 
-	private void kingDoesNotPassAttackedField(Move newMove, CastlingType castlingType) throws InvalidMoveException {
-		int x, y;
-		if (castlingType == CastlingType.QUEENSIDE) {
-			x = 3;
-		} else {
-			x = 5;
-		}
-		if (newMove.getMovedPiece().getColor() == Color.WHITE) {
-			y = 0;
-		} else {
-			y = 7;
+	private MoveType determineMoveType(Coordinate from, Coordinate to, Piece piece) {
+		if (piece.getType() == PieceType.KING && from.equals(homeKingField(piece.getColor()))
+				&& to.getY() == from.getY() && Math.abs(from.getX() - to.getX()) == 2) {
+			return MoveType.CASTLING;
 		}
-		if (isFieldAttackedByOpponent(newMove.getMovedPiece().getColor(), new Coordinate(x, y))) {
-			throw new InvalidMoveException("King cannot castle throw attacked field");
+		if (piece.getType() == PieceType.PAWN && isEnPassantPossible(from, to, piece)) {
+			return MoveType.EN_PASSANT;
 		}
+		return board.getPieceAt(to) == null ? MoveType.ATTACK : MoveType.CAPTURE;
 	}
 
-	private void noPiecesInBetween(Move newMove, CastlingType castlingType) throws InvalidMoveException {
-		Coordinate to;
-		if (castlingType == CastlingType.QUEENSIDE) {
-			to = new Coordinate(0, newMove.getTo().getY());
-		} else
-			to = new Coordinate(7, newMove.getTo().getY());
-		isAnyPieceBlocking(newMove.getFrom(), to);
+	private boolean isEnPassantPossible(Coordinate from, Coordinate to, Piece pawn) {
+		int direction = MovementRules.pawnDirection(pawn.getColor());
+
+		return to.equals(this.board.getEnPassantField()) && Math.abs(to.getX() - from.getX()) == 1
+				&& to.getY() == from.getY() + direction;
 	}
 
-	private void piecesDidNotMoveBefore(Move newMove, CastlingType castlingType) throws InvalidMoveException {
-		boolean hasKingMoved = false;
-		boolean hasRookMoved = false;
+	private Coordinate homeKingField(Color color) {
+		return Coordinate.of(4, color == Color.WHITE ? 0 : Board.SIZE - 1);
+	}
 
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getMovedPiece().getType() == newMove.getMovedPiece().getType()
-					&& move.getMovedPiece().getColor() == newMove.getMovedPiece().getColor()) {
-				hasKingMoved = true;
-			}
+	private boolean isKingInCheck(Color kingColor) throws NoKingOnTheBoard {
 
-			if (castlingType == CastlingType.QUEENSIDE
-					&& move.getMovedPiece().getColor() == newMove.getMovedPiece().getColor()
-					&& move.getMovedPiece().getType() == PieceType.ROOK && move.getFrom().getX() == 0) {
-				hasRookMoved = true;
-			}
+		Coordinate current_king_position = findCurrentKingPosition(kingColor);
+		return isFieldAttackedByOpponent(kingColor, current_king_position);
+	}
 
-			if (castlingType == CastlingType.KINGSIDE
-					&& move.getMovedPiece().getColor() == newMove.getMovedPiece().getColor()
-					&& move.getMovedPiece().getType() == PieceType.ROOK && move.getFrom().getX() == 7) {
-				hasRookMoved = true;
-			}
-		}
+	private boolean isKingAttacked(Color kingColor) {
+		Coordinate kingField = board.getKingField(kingColor);
+		return kingField != null && isFieldAttackedByOpponent(kingColor, kingField);
+	}
+
+	private boolean isFieldAttackedByOpponent(Color activeColor, Coordinate toField) {
+
+		int square = toField.getSquareIndex();
+		Color opponent = activeColor.getOpponent();
 
-		if (hasKingMoved || hasRookMoved) {
-			throw new InvalidMoveException("Rook or king have already moved. Castling not allowed");
+		// opponent pawn attacks the field if a pawn of active color standing
+		// there would attack the opponent pawn
+		if ((AttackTables.pawnAttacks(activeColor, square) & board.getBitboard(opponent, PieceType.PAWN)) != 0
+				|| (AttackTables.knightAttacks(square) & board.getBitboard(opponent, PieceType.KNIGHT)) != 0
+				|| (AttackTables.kingAttacks(square) & board.getBitboard(opponent, PieceType.KING)) != 0) {
+			return true;
 		}
+
+		long queens = board.getBitboard(opponent, PieceType.QUEEN);
+		long occupancy = board.getOccupancy();
+		return (SlidingAttacks.rookAttacks(square, occupancy)
+				& (board.getBitboard(opponent, PieceType.ROOK) | queens)) != 0
+				|| (SlidingAttacks.bishopAttacks(square, occupancy)
+						& (board.getBitboard(opponent, PieceType.BISHOP) | queens)) != 0;
 	}
 
-	private Move determineMoveType(Coordinate from, Coordinate to, Piece piece) throws InvalidMoveException {
-		Move result = new Move();
-		result.setFrom(from);
-		result.setTo(to);
-		result.setMovedPiece(piece);
+	/**
+	 * Gets pieces of given color attacking the field, among pieces standing
+	 * on the occupied fields.
+	 */
+	private long attackersOf(int square, long occupancy, Color color) {
+		long queens = board.getBitboard(color, PieceType.QUEEN);
+		long attackers = (AttackTables.pawnAttacks(color.getOpponent(), square)
+				& board.getBitboard(color, PieceType.PAWN))
+				| (AttackTables.knightAttacks(square) & board.getBitboard(color, PieceType.KNIGHT))
+				| (AttackTables.kingAttacks(square) & board.getBitboard(color, PieceType.KING))
+				| (SlidingAttacks.rookAttacks(square, occupancy) & (board.getBitboard(color, PieceType.ROOK) | queens))
+				| (SlidingAttacks.bishopAttacks(square, occupancy)
+						& (board.getBitboard(color, PieceType.BISHOP) | queens));
+		return attackers & occupancy;
+	}
 
-		if (board.getPieceAt(to) == null) {
-			result.setType(MoveType.ATTACK);
-		} else if (board.getPieceAt(to).getColor() != piece.getColor()) {
-			result.setType(MoveType.CAPTURE);
-		} else if (board.getPieceAt(to).getColor() == piece.getColor()) {
-			throw new InvalidMoveException("Cannot capture own piece");
+	/**
+	 * Computes for the player to move: opponent pieces giving check, fields
+	 * where the check can be blocked or captured, own pieces pinned to the
+	 * king with lines they may still move along, and fields attacked by the
+	 * opponent (seen through the king, so the king cannot step back along the
+	 * line of a check).
+	 */
+	private void computeLegalityMasks(Color color, Coordinate kingField) {
+		Color opponent = color.getOpponent();
+		int king = kingField.getSquareIndex();
+		long occupancy = board.getOccupancy();
+		long queens = board.getBitboard(opponent, PieceType.QUEEN);
+		long rooks = board.getBitboard(opponent, PieceType.ROOK) | queens;
+		long bishops = board.getBitboard(opponent, PieceType.BISHOP) | queens;
+
+		this.checkers = (AttackTables.pawnAttacks(color, king) & board.getBitboard(opponent, PieceType.PAWN))
+				| (AttackTables.knightAttacks(king) & board.getBitboard(opponent, PieceType.KNIGHT))
+				| (SlidingAttacks.rookAttacks(king, occupancy) & rooks)
+				| (SlidingAttacks.bishopAttacks(king, occupancy) & bishops);
+		if (this.checkers == 0) {
+			this.checkMask = -1L;
+		} else if (Long.bitCount(this.checkers) == 1) {
+			this.checkMask = this.checkers | AttackTables.between(king, Long.numberOfTrailingZeros(this.checkers));
 		} else {
-			throw new InvalidMoveException("Cannot classify move");
+			this.checkMask = 0L;
 		}
 
-		if (piece.getType() == PieceType.KING && from.getX() == 4 && (Math.abs(from.getX() - to.getX()) == 2)) {
-			verifyCastlingConditions(result);
-			result.setType(MoveType.CASTLING);
+		this.pinned = 0L;
+		long snipers = (AttackTables.rookRays(king) & rooks) | (AttackTables.bishopRays(king) & bishops);
+		for (; snipers != 0; snipers &= snipers - 1) {
+			int sniper = Long.numberOfTrailingZeros(snipers);
+			long between = AttackTables.between(king, sniper);
+			long blockers = between & occupancy;
+			if (Long.bitCount(blockers) == 1 && (blockers & board.getOccupancy(color)) != 0) {
+				this.pinned |= blockers;
+				this.pinRays[Long.numberOfTrailingZeros(blockers)] = between | (1L << sniper);
+			}
 		}
 
-		if (piece.getType() == PieceType.PAWN) {
-			if (!this.board.getMoveHistory().isEmpty()) {
-				Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-
-				if (from.getX() != to.getX() && lastMove.getMovedPiece().getColor() != piece.getColor()
-						&& lastMove.getMovedPiece().getType() == PieceType.PAWN
-						&& Math.abs(lastMove.getFrom().getY() - lastMove.getTo().getY()) == 2
-						&& Math.abs(lastMove.getTo().getX() - from.getX()) == 1) {
-					result.setType(MoveType.EN_PASSANT);
-				}
+		long occupancyWithoutKing = occupancy & ~(1L << king);
+		long attacks = 0L;
+		for (long pieces = board.getOccupancy(opponent); pieces != 0; pieces &= pieces - 1) {
+			int square = Long.numberOfTrailingZeros(pieces);
+			switch (board.getPieceAt(square).getType()) {
+			case PAWN:
+				attacks |= AttackTables.pawnAttacks(opponent, square);
+				break;
+			case KNIGHT:
+				attacks |= AttackTables.knightAttacks(square);
+				break;
+			case KING:
+				attacks |= AttackTables.kingAttacks(square);
+				break;
+			case ROOK:
+				attacks |= SlidingAttacks.rookAttacks(square, occupancyWithoutKing);
+				break;
+			case BISHOP:
+				attacks |= SlidingAttacks.bishopAttacks(square, occupancyWithoutKing);
+				break;
+			case QUEEN:
+				attacks |= SlidingAttacks.queenAttacks(square, occupancyWithoutKing);
+				break;
+			default:
+				break;
 			}
 		}
-		return result;
+		this.opponentAttacks = attacks;
 	}
 
-	private Piece isFromPieceCorrectColor(Coordinate from) throws InvalidMoveException {
+	private Coordinate findCurrentKingPosition(Color kingColor) throws NoKingOnTheBoard {
+
+		Coordinate kingField = board.getKingField(kingColor);
+		if (kingField == null)
+			throw new NoKingOnTheBoard();
+
+		return kingField;
+	}
+
+	private void addLegalMovesOfPlayerPiece(Coordinate from, MoveList legalMoves) throws NoKingOnTheBoard {
+		if (!isInBounds(from.getX(), from.getY())) {
+			return;
+		}
 		Piece piece = board.getPieceAt(from);
-		if (piece == null) {
-			throw new InvalidMoveException("No piece to move in this position");
-		} else if (calculateNextMoveColor() != piece.getColor()) {
-			throw new InvalidMoveException("The same color cannot move twice");
+		if (piece != null && piece.getColor() == calculateNextMoveColor()) {
+			computeLegalityMasks(piece.getColor(), findCurrentKingPosition(piece.getColor()));
+			addLegalMoves(from, piece, legalMoves);
 		}
-		return piece;
 	}
 
-	private void areCoordinatesInBounds(Coordinate from, Coordinate to) throws InvalidMoveException {
-		if (to.getX() > Board.SIZE - 1 || to.getX() < 0 || to.getY() > Board.SIZE - 1 || to.getY() < 0) {
-			throw new InvalidMoveException("Origin out of bounds");
-		}
-		if (from.getX() > Board.SIZE - 1 || from.getX() < 0 || from.getY() > Board.SIZE - 1 || from.getY() < 0) {
-			throw new InvalidMoveException("Destination out of bounds");
+	private boolean isAnyMoveValid() throws NoKingOnTheBoard {
+		Color nextMoveColor = calculateNextMoveColor();
+		computeLegalityMasks(nextMoveColor, findCurrentKingPosition(nextMoveColor));
+		for (long ownPieces = board.getOccupancy(nextMoveColor); ownPieces != 0; ownPieces &= ownPieces - 1) {
+			Coordinate from = toCoordinate(Long.numberOfTrailingZeros(ownPieces));
+			if (addLegalMoves(from, board.getPieceAt(from), null)) {
+				return true;
+			}
 		}
+		return false;
 	}
 
-	private boolean isKingInCheck(Color kingColor) throws NoKingOnTheBoard {
+	/**
+	 * Adds legal moves of given piece to the list. When the list is null
+	 * moves are not created and search stops at the first legal one.
+	 *
+	 * @return true if any legal move has been found
+	 */
+	private boolean addLegalMoves(Coordinate from, Piece piece, MoveList legalMoves) {
+		switch (piece.getType()) {
+		case KING:
+			boolean anyStep = addTargetMoves(from, piece, AttackTables.kingAttacks(from.getSquareIndex()),
+					legalMoves);
+			if (anyStep && legalMoves == null) {
+				return true;
+			}
+			return addCastlingMoves(from, piece, legalMoves) || anyStep;
+		case KNIGHT:
+			return addTargetMoves(from, piece, AttackTables.knightAttacks(from.getSquareIndex()), legalMoves);
+		case ROOK:
+			return addTargetMoves(from, piece, SlidingAttacks.rookAttacks(from.getSquareIndex(),
+					board.getOccupancy()), legalMoves);
+		case BISHOP:
+			return addTargetMoves(from, piece, SlidingAttacks.bishopAttacks(from.getSquareIndex(),
+					board.getOccupancy()), legalMoves);
+		case QUEEN:
+			return addTargetMoves(from, piece, SlidingAttacks.queenAttacks(from.getSquareIndex(),
+					board.getOccupancy()), legalMoves);
+		case PAWN:
+			return addPawnMoves(from, piece, legalMoves);
+		default:
+			return false;
+		}
+	}
 
-		Coordinate current_king_position = findCurrentKingPosition(kingColor);
-		return isFieldAttackedByOpponent(kingColor, current_king_position);
+	private void addTacticalMoves(Coordinate from, Piece piece, MoveList legalMoves) {
+		int square = from.getSquareIndex();
+		long targets = board.getOccupancy(piece.getColor().getOpponent());
+		switch (piece.getType()) {
+		case KING:
+			addTargetMoves(from, piece, AttackTables.kingAttacks(square) & targets, legalMoves);
+			break;
+		case KNIGHT:
+			addTargetMoves(from, piece, AttackTables.knightAttacks(square) & targets, legalMoves);
+			break;
+		case ROOK:
+			addTargetMoves(from, piece, SlidingAttacks.rookAttacks(square, board.getOccupancy()) & targets,
+					legalMoves);
+			break;
+		case BISHOP:
+			addTargetMoves(from, piece, SlidingAttacks.bishopAttacks(square, board.getOccupancy()) & targets,
+					legalMoves);
+			break;
+		case QUEEN:
+			addTargetMoves(from, piece, SlidingAttacks.queenAttacks(square, board.getOccupancy()) & targets,
+					legalMoves);
+			break;
+		case PAWN:
+			Coordinate enPassantField = board.getEnPassantField();
+			if (enPassantField != null) {
+				targets |= 1L << enPassantField.getSquareIndex();
+			}
+			addTargetMoves(from, piece, AttackTables.pawnAttacks(piece.getColor(), square) & targets, legalMoves);
+			int y = from.getY() + MovementRules.pawnDirection(piece.getColor());
+			if (isInBounds(from.getX(), y) && isPromotionField(Coordinate.of(from.getX(), y), piece.getColor())
+					&& board.getPieceAt(Coordinate.of(from.getX(), y)) == null) {
+				addIfLegal(from, Coordinate.of(from.getX(), y), piece, legalMoves);
+			}
+			break;
+		default:
+			break;
+		}
 	}
 
-	private boolean isFieldAttackedByOpponent(Color activeColor, Coordinate toField) {
-	
-		for (int x = 0; x < Board.SIZE; x++) {
-			for (int y = 0; y < Board.SIZE; y++) {
-				Piece piece = board.getPieceAt(new Coordinate(x, y));
-				if (piece == null)
-					continue;
-				else if (piece.getColor() == activeColor) {
-					continue;
-				} else {
-					Coordinate fromField = new Coordinate(x, y);
-					try {
-						piece.isAttackPossible(fromField, toField);
-						isAnyPieceBlocking(fromField, toField);
-						return true;
-					} catch (InvalidMoveException e) {
-						continue;
-					}
+	private boolean addTargetMoves(Coordinate from, Piece piece, long attacks, MoveList legalMoves) {
+		boolean found = false;
+		for (long targets = attacks & ~board.getOccupancy(piece.getColor()); targets != 0; targets &= targets - 1) {
+			if (addIfLegal(from, Coordinate.of(Long.numberOfTrailingZeros(targets)), piece, legalMoves)) {
+				found = true;
+				if (legalMoves == null) {
+					return true;
 				}
 			}
 		}
-		return false;
+		return found;
 	}
 
-	private Coordinate findCurrentKingPosition(Color kingColor) throws NoKingOnTheBoard {
-		Coordinate current_king_position = null;
+	private boolean addPawnMoves(Coordinate from, Piece piece, MoveList legalMoves) {
+		int direction = MovementRules.pawnDirection(piece.getColor());
+		int startRank = MovementRules.pawnStartRank(piece.getColor());
+		int y = from.getY() + direction;
+		if (!isInBounds(from.getX(), y)) {
+			return false;
+		}
 
-		for (int x = 0; x < Board.SIZE; x++) {
-			for (int y = 0; y < Board.SIZE; y++) {
-				Piece piece = board.getPieceAt(new Coordinate(x, y));
-				if (piece == null)
-					continue;
-				else if (piece.getColor() == kingColor && piece.getType() == PieceType.KING) {
-					current_king_position = new Coordinate(x, y);
-				}
+		boolean found = false;
+		Coordinate oneStep = Coordinate.of(from.getX(), y);
+		if (board.getPieceAt(oneStep) == null) {
+			found = addIfLegal(from, oneStep, piece, legalMoves);
+			if (found && legalMoves == null) {
+				return true;
+			}
+			Coordinate twoSteps = Coordinate.of(from.getX(), y + direction);
+			if (from.getY() == startRank && board.getPieceAt(twoSteps) == null) {
+				found |= addIfLegal(from, twoSteps, piece, legalMoves);
 			}
-
 		}
 
-		if (current_king_position == null)
-			throw new NoKingOnTheBoard();
+		for (int x = from.getX() - 1; x <= from.getX() + 1; x += 2) {
+			if (!isInBounds(x, y)) {
+				continue;
+			}
+			Coordinate to = Coordinate.of(x, y);
+			Piece target = board.getPieceAt(to);
+			if (((target != null && target.getColor() != piece.getColor()) || isEnPassantPossible(from, to, piece))
+					&& addIfLegal(from, to, piece, legalMoves)) {
+				found = true;
+				if (legalMoves == null) {
+					return true;
+				}
+			}
+		}
+		return found;
+	}
 
-		return current_king_position;
-	}
-
-	private boolean isAnyMoveValid(Color nextMoveColor) {
-		for (int fromX = 0; fromX < Board.SIZE; fromX++) {
-			for (int fromY = 0; fromY < Board.SIZE; fromY++) {
-				Piece piece = board.getPieceAt(new Coordinate(fromX, fromY));
-				if (piece == null)
-					continue;
-				else if (piece.getColor() != nextMoveColor) {
-					continue;
-				} else {
-					for (int toX = 0; toX < Board.SIZE; toX++) {
-						for (int toY = 0; toY < Board.SIZE; toY++) {
-							try {
-								validateMove(new Coordinate(fromX, fromY), new Coordinate(toX, toY));
-								return true;
-							} catch (InvalidMoveException e) {
-								continue;
-							}
-						}
-					}
+	private boolean addCastlingMoves(Coordinate from, Piece king, MoveList legalMoves) {
+		if (!from.equals(homeKingField(king.getColor()))) {
+			return false;
+		}
+		boolean found = false;
+		for (int x = from.getX() - 2; x <= from.getX() + 2; x += 4) {
+			Coordinate to = Coordinate.of(x, from.getY());
+			if (board.getPieceAt(to) != null) {
+				continue;
+			}
+			Move castling = setCandidateMove(from, to, king, MoveType.CASTLING);
+			if (isCastlingAllowed(castling) && (this.opponentAttacks & (1L << to.getSquareIndex())) == 0) {
+				found = true;
+				if (legalMoves == null) {
+					return true;
 				}
+				legalMoves.add(PackedMove.pack(from.getSquareIndex(), to.getSquareIndex(), king, null,
+						MoveType.CASTLING, null));
 			}
 		}
-		return false;
+		return found;
 	}
 
-	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
+	/**
+	 * Checks legality of a generated move using masks computed by
+	 * {@link #computeLegalityMasks(Color, Coordinate)}. Only en passant
+	 * captures, which can uncover the king along the rank, are made on the
+	 * board and taken back.
+	 */
+	private boolean isLegal(Coordinate from, Coordinate to, Piece piece, MoveType type) {
+		long toBit = 1L << to.getSquareIndex();
+		if (piece.getType() == PieceType.KING) {
+			return (this.opponentAttacks & toBit) == 0;
 		}
+		if (type == MoveType.EN_PASSANT) {
+			return !isKingInCheckAfter(setCandidateMove(from, to, piece, type));
+		}
+		if ((this.checkMask & toBit) == 0) {
+			return false;
+		}
+		int fromSquare = from.getSquareIndex();
+		return (this.pinned & (1L << fromSquare)) == 0 || (this.pinRays[fromSquare] & toBit) != 0;
 	}
 
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
+	private boolean addIfLegal(Coordinate from, Coordinate to, Piece piece, MoveList legalMoves) {
+		Piece target = board.getPieceAt(to);
+		if (target != null && target.getColor() == piece.getColor()) {
+			return false;
+		}
+
+		MoveType type = MoveType.ATTACK;
+		Piece capturedPiece = target;
+		if (target != null) {
+			type = MoveType.CAPTURE;
+		} else if (piece.getType() == PieceType.PAWN && from.getX() != to.getX()) {
+			type = MoveType.EN_PASSANT;
+			capturedPiece = board.getPieceAt(Coordinate.of(to.getX(), from.getY()));
+		}
 
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.ATTACK) {
-				lastNonAttackMoveIndex = counter;
+		if (!isLegal(from, to, piece, type)) {
+			return false;
+		}
+		if (legalMoves == null) {
+			return true;
+		}
+		int fromSquare = from.getSquareIndex();
+		int toSquare = to.getSquareIndex();
+		if (piece.getType() == PieceType.PAWN && isPromotionField(to, piece.getColor())) {
+			for (PieceType promotion : PROMOTIONS) {
+				legalMoves.add(PackedMove.pack(fromSquare, toSquare, piece, capturedPiece, type, promotion));
 			}
-			counter++;
+		} else {
+			legalMoves.add(PackedMove.pack(fromSquare, toSquare, piece, capturedPiece, type, null));
 		}
+		return true;
+	}
 
-		return lastNonAttackMoveIndex;
+	private List<Move> toMoves(MoveList packedMoves) {
+		List<Move> moves = new ArrayList<>(packedMoves.size());
+		for (int i = 0; i < packedMoves.size(); i++) {
+			moves.add(PackedMove.toMove(packedMoves.get(i)));
+		}
+		return moves;
+	}
+
+	private boolean isPromotionField(Coordinate field, Color color) {
+		return field.getY() == MovementRules.promotionRank(color);
+	}
+
+	private Move createMove(Coordinate from, Coordinate to, Piece piece, MoveType type) {
+		Move move = new Move();
+		move.setFrom(from);
+		move.setTo(to);
+		move.setMovedPiece(piece);
+		move.setType(type);
+		return move;
+	}
+
+	private Move setCandidateMove(Coordinate from, Coordinate to, Piece piece, MoveType type) {
+		this.candidateMove.setFrom(from);
+		this.candidateMove.setTo(to);
+		this.candidateMove.setMovedPiece(piece);
+		this.candidateMove.setType(type);
+		return this.candidateMove;
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+
+	private Coordinate toCoordinate(int squareIndex) {
+		return Coordinate.of(squareIndex);
+	}
+
+	private Color calculateNextMoveColor() {
+		if (this.board.getPly() % 2 == 0) {
+			return Color.WHITE;
+		} else {
+			return Color.BLACK;
+		}
 	}
 
 }
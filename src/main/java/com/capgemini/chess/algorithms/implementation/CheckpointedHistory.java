@@ -0,0 +1,139 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Game history which can restore the board at any ply without replaying
+ * the whole game.
+ *
+ * Every K plies a compact checkpoint of the position is stored, so
+ * {@link #positionAt(int)} restores the nearest checkpoint before the ply
+ * and replays at most K - 1 moves from it. Moves are kept packed by
+ * {@link PackedMove}, an int per ply, and a checkpoint takes less than 100
+ * bytes, so memory grows by 4 bytes per ply and by a checkpoint every K
+ * plies.
+ *
+ */
+public class CheckpointedHistory {
+
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+	private final int checkpointInterval;
+	private final MoveList moves = new MoveList();
+	private final List<PositionCheckpoint> checkpoints = new ArrayList<>();
+	// board manager following the last position of the history, restarted
+	// from every checkpoint, so it keeps less than K moves to take back
+	private BoardManager current;
+
+	/**
+	 * Creates history of a game starting from the initial position, with a
+	 * checkpoint every {@value #DEFAULT_CHECKPOINT_INTERVAL} plies.
+	 */
+	public CheckpointedHistory() {
+		this(new BoardManager().getBoard(), DEFAULT_CHECKPOINT_INTERVAL);
+	}
+
+	/**
+	 * Creates history of a game starting from given position.
+	 *
+	 * @param startBoard
+	 *            board with the start position, it is not modified
+	 * @param checkpointInterval
+	 *            number of plies between checkpoints
+	 */
+	public CheckpointedHistory(Board startBoard, int checkpointInterval) {
+		if (checkpointInterval < 1) {
+			throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+		}
+		this.checkpointInterval = checkpointInterval;
+		PositionCheckpoint start = new PositionCheckpoint(startBoard);
+		this.checkpoints.add(start);
+		this.current = new BoardManager(start.toBoard());
+	}
+
+	/**
+	 * Appends move to the history (without validation).
+	 *
+	 * @param move
+	 *            move made in the last position of the history
+	 */
+	public void addMove(Move move) {
+		this.current.makeMove(move);
+		Board board = this.current.getBoard();
+		this.moves.add(board.getPackedMove(board.getMoveHistory().size() - 1));
+		if (this.moves.size() % this.checkpointInterval == 0) {
+			PositionCheckpoint checkpoint = new PositionCheckpoint(board);
+			this.checkpoints.add(checkpoint);
+			this.current = new BoardManager(checkpoint.toBoard());
+		}
+	}
+
+	/**
+	 * Gets number of moves in the history.
+	 *
+	 * @return number of plies
+	 */
+	public int size() {
+		return this.moves.size();
+	}
+
+	/**
+	 * Gets move of given index in the history, packed by {@link PackedMove}.
+	 *
+	 * @param ply
+	 *            index of the move
+	 * @return packed move
+	 */
+	public int getPackedMove(int ply) {
+		return this.moves.get(ply);
+	}
+
+	/**
+	 * Gets moves of the history as new {@link Move} objects.
+	 *
+	 * @return unmodifiable list of moves
+	 */
+	public List<Move> getMoves() {
+		List<Move> result = new ArrayList<>(this.moves.size());
+		for (int i = 0; i < this.moves.size(); i++) {
+			result.add(PackedMove.toMove(this.moves.get(i)));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	public int getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	/**
+	 * Restores the board after given number of moves of the history. Move
+	 * history of the returned board contains only moves replayed since the
+	 * nearest checkpoint, so repetitions before it are not visible.
+	 *
+	 * @param ply
+	 *            number of moves, from 0 (start position) to {@link #size()}
+	 * @return new board manager with the position
+	 * @throws IndexOutOfBoundsException
+	 *             in case the ply is outside of the history
+	 */
+	public BoardManager positionAt(int ply) {
+		if (ply < 0 || ply > this.moves.size()) {
+			throw new IndexOutOfBoundsException("Ply: " + ply + ", Size: " + this.moves.size());
+		}
+
+		PositionCheckpoint checkpoint = this.checkpoints.get(ply / this.checkpointInterval);
+		BoardManager boardManager = new BoardManager(checkpoint.toBoard());
+		// plies of checkpoints are counted from the start of the game
+		for (int i = checkpoint.getPly() - this.checkpoints.get(0).getPly(); i < ply; i++) {
+			boardManager.makeMove(this.moves.get(i));
+		}
+		return boardManager;
+	}
+}
@@ -0,0 +1,68 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Information needed to take back a move made on the board: pieces which
+ * were removed or replaced by the move and the board state it overwrote.
+ * Records are reused by the undo stack, so they are filled by
+ * {@link #set(Move, int, Piece, Coordinate, int, Coordinate)} instead of a
+ * constructor.
+ *
+ */
+class MoveUndo {
+
+	private Move move;
+	private int packedMove;
+	private Piece movedPiece;
+	private Coordinate capturedField;
+	private int castlingRights;
+	private Coordinate enPassantField;
+
+	void set(Move move, int packedMove, Piece movedPiece, Coordinate capturedField, int castlingRights,
+			Coordinate enPassantField) {
+		this.move = move;
+		this.packedMove = packedMove;
+		this.movedPiece = movedPiece;
+		this.capturedField = capturedField;
+		this.castlingRights = castlingRights;
+		this.enPassantField = enPassantField;
+	}
+
+	/**
+	 * @return move object given to make the move, null if it was made as a
+	 *         packed move
+	 */
+	Move getMove() {
+		return move;
+	}
+
+	/**
+	 * @return the move packed by {@link PackedMove}, including captured piece
+	 */
+	int getPackedMove() {
+		return packedMove;
+	}
+
+	/**
+	 * @return piece which stood on 'from' field, a pawn in case of promotion
+	 */
+	Piece getMovedPiece() {
+		return movedPiece;
+	}
+
+	Coordinate getCapturedField() {
+		return capturedField;
+	}
+
+	int getCastlingRights() {
+		return castlingRights;
+	}
+
+	Coordinate getEnPassantField() {
+		return enPassantField;
+	}
+}
@@ -0,0 +1,77 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Result of a perft count split by root moves (divide), with the time it
+ * took.
+ *
+ */
+public class PerftResult {
+
+	private final int depth;
+	private final Map<Move, Long> nodesPerMove;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	public PerftResult(int depth, Map<Move, Long> nodesPerMove, long elapsedNanos) {
+		this.depth = depth;
+		this.nodesPerMove = Collections.unmodifiableMap(nodesPerMove);
+		this.elapsedNanos = elapsedNanos;
+		long sum = 0;
+		for (long moveNodes : nodesPerMove.values()) {
+			sum += moveNodes;
+		}
+		this.nodes = sum;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Gets leaf node counts of every root move, in generation order.
+	 */
+	public Map<Move, Long> getNodesPerMove() {
+		return nodesPerMove;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets speed of the count in leaf nodes per second.
+	 */
+	public long getNodesPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+		return (long) (nodes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+	}
+
+	/**
+	 * Gets divide output: one "move: nodes" line per root move followed by
+	 * totals.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (Map.Entry<Move, Long> entry : nodesPerMove.entrySet()) {
+			builder.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+		}
+		builder.append("Depth: ").append(depth).append('\n');
+		builder.append("Nodes: ").append(nodes).append('\n');
+		builder.append("Time: ").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms\n");
+		builder.append("NPS: ").append(getNodesPerSecond());
+		return builder.toString();
+	}
+}
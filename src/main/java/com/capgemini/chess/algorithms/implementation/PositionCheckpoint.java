@@ -0,0 +1,74 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Compact copy of a board position: pieces packed as 4-bit codes, 16 fields
+ * per long, and the state needed to continue the game from it.
+ *
+ */
+final class PositionCheckpoint {
+
+	private static final int FIELDS_PER_LONG = 16;
+	private static final int BITS_PER_FIELD = 4;
+	private static final int FIELD_MASK = (1 << BITS_PER_FIELD) - 1;
+	private static final int NO_EN_PASSANT_FIELD = -1;
+
+	private final long[] fields = new long[Board.SIZE * Board.SIZE / FIELDS_PER_LONG];
+	private final int castlingRights;
+	private final int enPassantSquare;
+	private final int halfmoveClock;
+	private final int ply;
+
+	PositionCheckpoint(Board board) {
+		for (long occupied = board.getOccupancy(); occupied != 0; occupied &= occupied - 1) {
+			int square = Long.numberOfTrailingZeros(occupied);
+			Piece piece = board.getPieceAt(square);
+			long code = 1 + piece.getColor().ordinal() * PieceType.values().length + piece.getType().ordinal();
+			fields[square / FIELDS_PER_LONG] |= code << (square % FIELDS_PER_LONG * BITS_PER_FIELD);
+		}
+		Coordinate enPassantField = board.getEnPassantField();
+		this.castlingRights = board.getCastlingRights();
+		this.enPassantSquare = enPassantField != null ? enPassantField.getSquareIndex() : NO_EN_PASSANT_FIELD;
+		this.halfmoveClock = board.getHalfmoveClock();
+		this.ply = board.getPly();
+	}
+
+	/**
+	 * Gets number of plies played in the game before the position, see
+	 * {@link Board#getPly()}.
+	 *
+	 * @return ply of the position
+	 */
+	int getPly() {
+		return ply;
+	}
+
+	/**
+	 * Creates board with the position of the checkpoint and empty move
+	 * history.
+	 *
+	 * @return new board
+	 */
+	Board toBoard() {
+		Board board = new Board();
+		for (int square = 0; square < Board.SIZE * Board.SIZE; square++) {
+			int code = (int) (fields[square / FIELDS_PER_LONG] >>> (square % FIELDS_PER_LONG * BITS_PER_FIELD))
+					& FIELD_MASK;
+			if (code != 0) {
+				Color color = Color.values()[(code - 1) / PieceType.values().length];
+				PieceType type = PieceType.values()[(code - 1) % PieceType.values().length];
+				board.setPieceAt(Piece.of(color, type), Coordinate.of(square));
+			}
+		}
+		board.setCastlingRights(castlingRights);
+		board.setEnPassantField(enPassantSquare != NO_EN_PASSANT_FIELD ? Coordinate.of(enPassantSquare) : null);
+		board.setStartPly(ply);
+		board.setStartHalfmoveClock(halfmoveClock);
+		return board;
+	}
+}
@@ -3,6 +3,7 @@ package com.capgemini.chess.algorithms.movements;
 import com.capgemini.chess.algorithms.chesspieces.Piece;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 /**
  * Chess move definition.
@@ -16,6 +17,7 @@ public class Move {
 	private Coordinate to;
 	private MoveType type;
 	private Piece movedPiece;
+	private PieceType promotion;
 
 	public Coordinate getFrom() {
 		return from;
@@ -48,4 +50,30 @@ public class Move {
 	public void setMovedPiece(Piece movedPiece) {
 		this.movedPiece = movedPiece;
 	}
+
+	/**
+	 * Gets type of the piece which pawn reaching the last rank is promoted
+	 * to.
+	 * 
+	 * @return promotion piece type, null means queen
+	 */
+	public PieceType getPromotion() {
+		return promotion;
+	}
+
+	public void setPromotion(PieceType promotion) {
+		this.promotion = promotion;
+	}
+
+	/**
+	 * Gets the move in coordinate notation, like "e2e4" or "e7e8n".
+	 */
+	@Override
+	public String toString() {
+		String promotionSuffix = "";
+		if (promotion != null) {
+			promotionSuffix = promotion == PieceType.KNIGHT ? "n" : promotion.name().substring(0, 1).toLowerCase();
+		}
+		return from + "" + to + promotionSuffix;
+	}
 }
@@ -0,0 +1,79 @@
+package com.capgemini.chess.algorithms.movements;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of moves packed by {@link PackedMove}. Lists are meant to be
+ * cleared and reused, so filling them does not allocate once they are big
+ * enough.
+ *
+ */
+public class MoveList {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private int[] moves;
+	private int size;
+
+	public MoveList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public MoveList(int capacity) {
+		this.moves = new int[Math.max(capacity, 1)];
+	}
+
+	public void add(int packedMove) {
+		if (size == moves.length) {
+			moves = Arrays.copyOf(moves, size * 2);
+		}
+		moves[size++] = packedMove;
+	}
+
+	public int get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return moves[index];
+	}
+
+	public void set(int index, int packedMove) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		moves[index] = packedMove;
+	}
+
+	/**
+	 * Removes the last move of the list.
+	 *
+	 * @return removed move
+	 */
+	public int removeLast() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("List is empty");
+		}
+		return moves[--size];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Gets copy of the moves as an array.
+	 *
+	 * @return packed moves
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(moves, size);
+	}
+}
@@ -0,0 +1,133 @@
+package com.capgemini.chess.algorithms.movements;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Chess move packed into an int, for storing moves without allocating
+ * objects.
+ *
+ * Bits of the packed move:
+ * <ul>
+ * <li>0-5 - square index of 'from' field</li>
+ * <li>6-11 - square index of 'to' field</li>
+ * <li>12-15 - moved piece code</li>
+ * <li>16-19 - captured piece code, 0 if nothing is captured</li>
+ * <li>20-21 - move type ordinal</li>
+ * <li>22-24 - promotion piece type ordinal + 1, 0 if there is no promotion</li>
+ * </ul>
+ * Piece code is 1 + color ordinal * 6 + piece type ordinal, so every move
+ * differs from {@link #NONE}.
+ *
+ */
+public final class PackedMove {
+
+	public static final int NONE = 0;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int PIECE_MASK = 0xF;
+	private static final int TYPE_MASK = 0x3;
+	private static final int PROMOTION_MASK = 0x7;
+
+	private static final int TO_SHIFT = 6;
+	private static final int MOVED_PIECE_SHIFT = 12;
+	private static final int CAPTURED_PIECE_SHIFT = 16;
+	private static final int TYPE_SHIFT = 20;
+	private static final int PROMOTION_SHIFT = 22;
+
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+
+	private PackedMove() {
+	}
+
+	/**
+	 * Packs move into an int.
+	 *
+	 * @param from square index of 'from' field
+	 * @param to square index of 'to' field
+	 * @param movedPiece moved piece
+	 * @param capturedPiece captured piece or null
+	 * @param type move type
+	 * @param promotion promotion piece type or null
+	 * @return packed move
+	 */
+	public static int pack(int from, int to, Piece movedPiece, Piece capturedPiece, MoveType type,
+			PieceType promotion) {
+		return from | to << TO_SHIFT | pieceCode(movedPiece) << MOVED_PIECE_SHIFT
+				| pieceCode(capturedPiece) << CAPTURED_PIECE_SHIFT | type.ordinal() << TYPE_SHIFT
+				| (promotion != null ? promotion.ordinal() + 1 : 0) << PROMOTION_SHIFT;
+	}
+
+	/**
+	 * Packs given move.
+	 *
+	 * @param move move to pack
+	 * @param capturedPiece piece captured by the move or null
+	 * @return packed move
+	 */
+	public static int pack(Move move, Piece capturedPiece) {
+		return pack(move.getFrom().getSquareIndex(), move.getTo().getSquareIndex(), move.getMovedPiece(),
+				capturedPiece, move.getType(), move.getPromotion());
+	}
+
+	/**
+	 * Creates {@link Move} object of a packed move. Captured piece is not a
+	 * part of {@link Move} and is lost.
+	 *
+	 * @param packedMove packed move
+	 * @return new move object
+	 */
+	public static Move toMove(int packedMove) {
+		Move move = new Move();
+		move.setFrom(Coordinate.of(getFrom(packedMove)));
+		move.setTo(Coordinate.of(getTo(packedMove)));
+		move.setMovedPiece(getMovedPiece(packedMove));
+		move.setType(getType(packedMove));
+		move.setPromotion(getPromotion(packedMove));
+		return move;
+	}
+
+	public static int getFrom(int packedMove) {
+		return packedMove & SQUARE_MASK;
+	}
+
+	public static int getTo(int packedMove) {
+		return packedMove >>> TO_SHIFT & SQUARE_MASK;
+	}
+
+	public static Piece getMovedPiece(int packedMove) {
+		return toPiece(packedMove >>> MOVED_PIECE_SHIFT & PIECE_MASK);
+	}
+
+	public static Piece getCapturedPiece(int packedMove) {
+		return toPiece(packedMove >>> CAPTURED_PIECE_SHIFT & PIECE_MASK);
+	}
+
+	public static MoveType getType(int packedMove) {
+		return MOVE_TYPES[packedMove >>> TYPE_SHIFT & TYPE_MASK];
+	}
+
+	public static PieceType getPromotion(int packedMove) {
+		int promotion = packedMove >>> PROMOTION_SHIFT & PROMOTION_MASK;
+		return promotion != 0 ? PIECE_TYPES[promotion - 1] : null;
+	}
+
+	private static int pieceCode(Piece piece) {
+		if (piece == null) {
+			return 0;
+		}
+		return 1 + piece.getColor().ordinal() * PIECE_TYPES.length + piece.getType().ordinal();
+	}
+
+	private static Piece toPiece(int pieceCode) {
+		if (pieceCode == 0) {
+			return null;
+		}
+		Color color = pieceCode > PIECE_TYPES.length ? Color.BLACK : Color.WHITE;
+		return Piece.of(color, PIECE_TYPES[(pieceCode - 1) % PIECE_TYPES.length]);
+	}
+}
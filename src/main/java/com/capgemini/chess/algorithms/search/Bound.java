@@ -0,0 +1,14 @@
+package com.capgemini.chess.algorithms.search;
+
+/**
+ * Kind of a score stored in {@link TranspositionTable}.
+ *
+ */
+public enum Bound {
+	// score is exact
+	EXACT,
+	// score is at least the stored one, search failed high
+	LOWER,
+	// score is at most the stored one, search failed low
+	UPPER;
+}
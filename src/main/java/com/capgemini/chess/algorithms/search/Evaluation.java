@@ -0,0 +1,106 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Static evaluation of a position: material and piece-square bonuses, in
+ * centipawns.
+ *
+ * Piece-square tables are written for white from a1 (index 0) to h8 (index
+ * 63), fields of black pieces are mirrored vertically.
+ *
+ */
+final class Evaluation {
+
+	// indexed by PieceType ordinal: king, queen, bishop, knight, rook, pawn
+	static final int[] PIECE_VALUES = { 0, 900, 330, 320, 500, 100 };
+
+	private static final int[] KING_TABLE = {
+			20, 30, 10, 0, 0, 10, 30, 20,
+			20, 20, 0, 0, 0, 0, 20, 20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30 };
+	private static final int[] QUEEN_TABLE = {
+			-20, -10, -10, -5, -5, -10, -10, -20,
+			-10, 0, 5, 0, 0, 0, 0, -10,
+			-10, 5, 5, 5, 5, 5, 0, -10,
+			0, 0, 5, 5, 5, 5, 0, -5,
+			-5, 0, 5, 5, 5, 5, 0, -5,
+			-10, 0, 5, 5, 5, 5, 0, -10,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-20, -10, -10, -5, -5, -10, -10, -20 };
+	private static final int[] BISHOP_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10, 5, 0, 0, 0, 0, 5, -10,
+			-10, 10, 10, 10, 10, 10, 10, -10,
+			-10, 0, 10, 10, 10, 10, 0, -10,
+			-10, 5, 5, 10, 10, 5, 5, -10,
+			-10, 0, 5, 10, 10, 5, 0, -10,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+	private static final int[] KNIGHT_TABLE = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20, 0, 5, 5, 0, -20, -40,
+			-30, 5, 10, 15, 15, 10, 5, -30,
+			-30, 0, 15, 20, 20, 15, 0, -30,
+			-30, 5, 15, 20, 20, 15, 5, -30,
+			-30, 0, 10, 15, 15, 10, 0, -30,
+			-40, -20, 0, 0, 0, 0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50 };
+	private static final int[] ROOK_TABLE = {
+			0, 0, 0, 5, 5, 0, 0, 0,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			5, 10, 10, 10, 10, 10, 10, 5,
+			0, 0, 0, 0, 0, 0, 0, 0 };
+	private static final int[] PAWN_TABLE = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			5, 10, 10, -20, -20, 10, 10, 5,
+			5, -5, -10, 0, 0, -10, -5, 5,
+			0, 0, 0, 20, 20, 0, 0, 0,
+			5, 5, 10, 25, 25, 10, 5, 5,
+			10, 10, 20, 30, 30, 20, 10, 10,
+			50, 50, 50, 50, 50, 50, 50, 50,
+			0, 0, 0, 0, 0, 0, 0, 0 };
+
+	private static final int[][] PIECE_SQUARE_TABLES = { KING_TABLE, QUEEN_TABLE, BISHOP_TABLE, KNIGHT_TABLE,
+			ROOK_TABLE, PAWN_TABLE };
+	private static final int MIRROR = 56;
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private Evaluation() {
+	}
+
+	/**
+	 * Evaluates position from the point of view of given player.
+	 *
+	 * @param board
+	 *            board with the position
+	 * @param color
+	 *            player for whom positive scores are good
+	 * @return score in centipawns
+	 */
+	static int evaluate(Board board, Color color) {
+		int score = 0;
+		for (PieceType type : PIECE_TYPES) {
+			int[] table = PIECE_SQUARE_TABLES[type.ordinal()];
+			int value = PIECE_VALUES[type.ordinal()];
+			for (long pieces = board.getBitboard(Color.WHITE, type); pieces != 0; pieces &= pieces - 1) {
+				score += value + table[Long.numberOfTrailingZeros(pieces)];
+			}
+			for (long pieces = board.getBitboard(Color.BLACK, type); pieces != 0; pieces &= pieces - 1) {
+				score -= value + table[Long.numberOfTrailingZeros(pieces) ^ MIRROR];
+			}
+		}
+		return color == Color.WHITE ? score : -score;
+	}
+}
@@ -0,0 +1,208 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Order in which moves of a node are searched, best candidates first:
+ * <ol>
+ * <li>best move remembered in the transposition table,</li>
+ * <li>captures, en passant and promotions, most valuable victim first and
+ * then least valuable attacker first (MVV-LVA),</li>
+ * <li>two killer moves of the ply - quiet moves which caused a cutoff in
+ * sibling nodes,</li>
+ * <li>other quiet moves, castling included, by the butterfly history - how
+ * often and how deep the move from one field to another caused a cutoff.</li>
+ * </ol>
+ * Scores of the moves are kept in arrays reused for every ply and the next
+ * move is picked by selection, so nothing is allocated while searching and
+ * moves after a cutoff are never sorted.
+ *
+ * Disabled ordering keeps moves in the order of generation, so its effect on
+ * the number of searched nodes can be measured.
+ *
+ */
+final class MoveOrdering {
+
+	private static final int HASH_MOVE_SCORE = 1 << 30;
+	private static final int CAPTURE_SCORE = 1 << 28;
+	private static final int FIRST_KILLER_SCORE = 1 << 27;
+	private static final int SECOND_KILLER_SCORE = FIRST_KILLER_SCORE - 1;
+	// history scores are halved when any of them reaches the limit, so they
+	// stay below killer scores
+	private static final int HISTORY_LIMIT = 1 << 20;
+
+	private static final int SQUARES = 64;
+	// scores of a node never exceed the number of legal moves in a position
+	private static final int MAX_MOVES = 256;
+
+	private final int[][] scores;
+	private final int[][] killers;
+	// indexed by [color][from][to]
+	private final int[][][] history = new int[Color.values().length][SQUARES][SQUARES];
+	private boolean enabled = true;
+
+	MoveOrdering(int maxPly) {
+		this.scores = new int[maxPly][MAX_MOVES];
+		this.killers = new int[maxPly][2];
+	}
+
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Prepares ordering for the next search: killer moves are forgotten,
+	 * history is aged.
+	 */
+	void newSearch() {
+		for (int[] plyKillers : this.killers) {
+			plyKillers[0] = PackedMove.NONE;
+			plyKillers[1] = PackedMove.NONE;
+		}
+		ageHistory();
+	}
+
+	/**
+	 * Scores moves of a node before they are picked by
+	 * {@link #pickMove(MoveList, int, int)}.
+	 *
+	 * @param moves
+	 *            legal moves of the node
+	 * @param ply
+	 *            ply of the node
+	 * @param hashMove
+	 *            best move from the transposition table or
+	 *            {@link PackedMove#NONE}
+	 */
+	void scoreMoves(MoveList moves, int ply, int hashMove) {
+		int[] plyScores = this.scores[ply];
+		if (!this.enabled) {
+			// equal scores, pickMove leaves the moves where they are
+			Arrays.fill(plyScores, 0, moves.size(), 0);
+			return;
+		}
+		int[] plyKillers = this.killers[ply];
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			if (move == hashMove) {
+				plyScores[i] = HASH_MOVE_SCORE;
+			} else if (isTactical(move)) {
+				plyScores[i] = CAPTURE_SCORE + tacticalScore(move);
+			} else if (move == plyKillers[0]) {
+				plyScores[i] = FIRST_KILLER_SCORE;
+			} else if (move == plyKillers[1]) {
+				plyScores[i] = SECOND_KILLER_SCORE;
+			} else {
+				plyScores[i] = historyScore(move);
+			}
+		}
+	}
+
+	/**
+	 * Moves the best of not yet searched moves to given index.
+	 *
+	 * @param moves
+	 *            moves scored by {@link #scoreMoves(MoveList, int, int)}
+	 * @param ply
+	 *            ply of the node
+	 * @param index
+	 *            number of moves already searched
+	 * @return move to search next
+	 */
+	int pickMove(MoveList moves, int ply, int index) {
+		int[] plyScores = this.scores[ply];
+		int best = index;
+		for (int i = index + 1; i < moves.size(); i++) {
+			if (plyScores[i] > plyScores[best]) {
+				best = i;
+			}
+		}
+		if (best != index) {
+			int move = moves.get(best);
+			moves.set(best, moves.get(index));
+			moves.set(index, move);
+			int score = plyScores[best];
+			plyScores[best] = plyScores[index];
+			plyScores[index] = score;
+		}
+		return moves.get(index);
+	}
+
+	/**
+	 * Remembers quiet move which caused a beta cutoff as a killer of the ply
+	 * and in the history.
+	 *
+	 * @param move
+	 *            move which caused the cutoff
+	 * @param ply
+	 *            ply of the node
+	 * @param depth
+	 *            remaining depth of the node
+	 */
+	void updateCutoff(int move, int ply, int depth) {
+		if (!this.enabled || isTactical(move)) {
+			return;
+		}
+		int[] plyKillers = this.killers[ply];
+		if (plyKillers[0] != move) {
+			plyKillers[1] = plyKillers[0];
+			plyKillers[0] = move;
+		}
+		int[] toScores = this.history[colorIndex(move)][PackedMove.getFrom(move)];
+		toScores[PackedMove.getTo(move)] += depth * depth;
+		if (toScores[PackedMove.getTo(move)] >= HISTORY_LIMIT) {
+			ageHistory();
+		}
+	}
+
+	private int historyScore(int move) {
+		return this.history[colorIndex(move)][PackedMove.getFrom(move)][PackedMove.getTo(move)];
+	}
+
+	private void ageHistory() {
+		for (int[][] colorHistory : this.history) {
+			for (int[] toScores : colorHistory) {
+				for (int to = 0; to < SQUARES; to++) {
+					toScores[to] >>= 1;
+				}
+			}
+		}
+	}
+
+	static boolean isTactical(int move) {
+		MoveType type = PackedMove.getType(move);
+		return type == MoveType.CAPTURE || type == MoveType.EN_PASSANT || PackedMove.getPromotion(move) != null;
+	}
+
+	private static int tacticalScore(int move) {
+		int score = 0;
+		Piece captured = PackedMove.getCapturedPiece(move);
+		if (captured != null) {
+			score += Evaluation.PIECE_VALUES[captured.getType().ordinal()] * 16;
+		}
+		PieceType promotion = PackedMove.getPromotion(move);
+		if (promotion != null) {
+			score += Evaluation.PIECE_VALUES[promotion.ordinal()] * 16;
+		}
+		Piece attacker = PackedMove.getMovedPiece(move);
+		return score - attackerValue(attacker) / 100;
+	}
+
+	private static int attackerValue(Piece attacker) {
+		if (attacker.getType() == PieceType.KING) {
+			return Evaluation.PIECE_VALUES[PieceType.QUEEN.ordinal()] + 100;
+		}
+		return Evaluation.PIECE_VALUES[attacker.getType().ordinal()];
+	}
+
+	private static int colorIndex(int move) {
+		return PackedMove.getMovedPiece(move).getColor().ordinal();
+	}
+}
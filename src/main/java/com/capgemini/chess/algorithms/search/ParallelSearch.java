@@ -0,0 +1,156 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+
+/**
+ * Search using several threads (Lazy SMP). The main search runs in the
+ * calling thread, helper threads search the same position at the same time
+ * and share one {@link TranspositionTable} with it, so the main search finds
+ * positions already searched by helpers. Every other helper starts iterative
+ * deepening one ply deeper, so helpers do not follow the main search too
+ * closely.
+ *
+ * Each helper searches its own copy of the board (see
+ * {@link Board#Board(Board)}), move history included. Helpers are stopped
+ * when the main search ends, which reports the result. Node and time limits
+ * of {@link SearchLimits} apply to the main search only, helpers are limited
+ * by the depth alone. Nodes of the result are counted in all threads.
+ *
+ */
+public class ParallelSearch {
+
+	private final BoardManager boardManager;
+	private final int threadCount;
+	private final TranspositionTable transpositionTable;
+	private boolean moveOrdering = true;
+
+	/**
+	 * Creates parallel search with a transposition table of
+	 * {@value Search#DEFAULT_TABLE_SIZE_MB} MB per thread.
+	 *
+	 * @param boardManager
+	 *            board manager with the position to search, used by the main
+	 *            search
+	 * @param threadCount
+	 *            number of searching threads, the calling thread included
+	 */
+	public ParallelSearch(BoardManager boardManager, int threadCount) {
+		this(boardManager, threadCount,
+				new TranspositionTable(Search.DEFAULT_TABLE_SIZE_MB * Math.max(threadCount, 1)));
+	}
+
+	/**
+	 * Creates parallel search.
+	 *
+	 * @param boardManager
+	 *            board manager with the position to search, used by the main
+	 *            search
+	 * @param threadCount
+	 *            number of searching threads, the calling thread included
+	 * @param transpositionTable
+	 *            table shared by all threads
+	 */
+	public ParallelSearch(BoardManager boardManager, int threadCount, TranspositionTable transpositionTable) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1");
+		}
+		this.boardManager = boardManager;
+		this.threadCount = threadCount;
+		this.transpositionTable = transpositionTable;
+	}
+
+	/**
+	 * Turns move ordering of all threads on or off, see
+	 * {@link Search#setMoveOrdering(boolean)}.
+	 *
+	 * @param enabled
+	 *            true to order moves, which is the default
+	 */
+	public void setMoveOrdering(boolean enabled) {
+		this.moveOrdering = enabled;
+	}
+
+	/**
+	 * Searches for the best move of the player to move.
+	 *
+	 * @param limits
+	 *            budget of the main search
+	 * @return result of the main search
+	 * @throws NoKingOnTheBoard
+	 *             in case any player has no king
+	 */
+	public SearchResult search(final SearchLimits limits) throws NoKingOnTheBoard {
+		long start = System.nanoTime();
+		List<Search> helpers = new ArrayList<>(this.threadCount - 1);
+		List<Thread> threads = new ArrayList<>(this.threadCount - 1);
+		final long[] helperNodes = new long[this.threadCount - 1];
+		// helpers run until the main search stops them
+		final SearchLimits helperLimits = SearchLimits.depth(limits.getMaxDepth());
+		for (int i = 0; i < this.threadCount - 1; i++) {
+			final Search helper = new Search(new BoardManager(new Board(this.boardManager.getBoard())),
+					this.transpositionTable);
+			helper.setMoveOrdering(this.moveOrdering);
+			final int index = i;
+			final int startDepth = Math.min(1 + (i + 1) % 2, limits.getMaxDepth());
+			Thread thread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						helperNodes[index] = helper.search(helperLimits, startDepth).getNodes();
+					} catch (NoKingOnTheBoard e) {
+						// the main search reports it
+					}
+				}
+			}, "search-helper-" + (i + 1));
+			thread.setDaemon(true);
+			helpers.add(helper);
+			threads.add(thread);
+			thread.start();
+		}
+
+		SearchResult result;
+		try {
+			Search mainSearch = new Search(this.boardManager, this.transpositionTable);
+			mainSearch.setMoveOrdering(this.moveOrdering);
+			result = mainSearch.search(limits);
+		} finally {
+			for (Search helper : helpers) {
+				helper.stop();
+			}
+			joinAll(threads);
+		}
+
+		long nodes = result.getNodes();
+		for (long count : helperNodes) {
+			nodes += count;
+		}
+		return new SearchResult(result.getPrincipalVariation(), result.getScore(), result.getDepth(), nodes,
+				System.nanoTime() - start);
+	}
+
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	private void joinAll(List<Thread> threads) {
+		boolean interrupted = false;
+		for (Thread thread : threads) {
+			while (thread.isAlive()) {
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
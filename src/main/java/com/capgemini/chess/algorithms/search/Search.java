@@ -0,0 +1,351 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Chooses a move for the player to move with negamax alpha-beta search and
+ * iterative deepening: positions are searched to depth 1, 2, ... until the
+ * budget given by {@link SearchLimits} is used up. Iteration interrupted by
+ * the budget is discarded, so the result always comes from a completed
+ * iteration. The first iteration is never interrupted by the budget.
+ *
+ * Moves are made and taken back on the board of given {@link BoardManager},
+ * which is left in its original position. Results of searched positions are
+ * kept in a {@link TranspositionTable}, which may be shared with other
+ * searches. Moves are searched in the order given by {@link MoveOrdering},
+ * starting with the best move remembered in the table, or else the move of
+ * the principal variation of the previous iteration.
+ *
+ * At the depth limit captures and promotions are searched further
+ * (quiescence search), so positions in the middle of an exchange are not
+ * evaluated. Captures losing material according to
+ * {@link BoardManager#staticExchange(Coordinate, Coordinate)} are skipped
+ * there. A player in check cannot stop there with the static evaluation, so
+ * all evasions of a check are searched.
+ *
+ * Search objects reuse their buffers and are not thread-safe.
+ *
+ */
+public class Search {
+
+	public static final int MATE_SCORE = 100000;
+	public static final int DEFAULT_TABLE_SIZE_MB = 4;
+
+	private static final int INFINITY = MATE_SCORE + 1;
+	private static final int DRAW_SCORE = 0;
+	// number of nodes between checks of the clock
+	private static final int TIME_CHECK_INTERVAL = 1024;
+	// quiescence search goes deeper than the depth limit
+	private static final int MAX_PLY = SearchLimits.MAX_DEPTH * 2;
+
+	private final BoardManager boardManager;
+	private final Board board;
+	private final TranspositionTable transpositionTable;
+	private final MoveList[] moveLists = new MoveList[MAX_PLY];
+	private final MoveOrdering moveOrdering = new MoveOrdering(MAX_PLY);
+	// triangular table of principal variations, row per ply
+	private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+	private final int[] pvLength = new int[MAX_PLY];
+	// principal variation of the last completed iteration
+	private final int[] previousPv = new int[MAX_PLY];
+	private int previousPvLength;
+
+	private long nodes;
+	private long maxNodes;
+	private long deadlineNanos;
+	private boolean interruptible;
+	private boolean aborted;
+	// set by other threads to abort the search, see stop()
+	private volatile boolean stopRequested;
+
+	/**
+	 * Creates search of positions of given board manager with its own
+	 * transposition table of {@value #DEFAULT_TABLE_SIZE_MB} MB.
+	 *
+	 * @param boardManager
+	 *            board manager with the position to search
+	 */
+	public Search(BoardManager boardManager) {
+		this(boardManager, new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+	}
+
+	/**
+	 * Creates search of positions of given board manager.
+	 *
+	 * @param boardManager
+	 *            board manager with the position to search
+	 * @param transpositionTable
+	 *            table of searched positions, possibly shared
+	 */
+	public Search(BoardManager boardManager, TranspositionTable transpositionTable) {
+		this.boardManager = boardManager;
+		this.board = boardManager.getBoard();
+		this.transpositionTable = transpositionTable;
+		for (int ply = 0; ply < MAX_PLY; ply++) {
+			this.moveLists[ply] = new MoveList();
+		}
+	}
+
+	/**
+	 * Turns move ordering on or off. Without ordering moves are searched in
+	 * the order of generation, which only makes sense to measure how many
+	 * nodes the ordering saves.
+	 *
+	 * @param enabled
+	 *            true to order moves, which is the default
+	 */
+	public void setMoveOrdering(boolean enabled) {
+		this.moveOrdering.setEnabled(enabled);
+	}
+
+	/**
+	 * Searches for the best move of the player to move.
+	 *
+	 * @param limits
+	 *            budget of the search
+	 * @return result of the deepest completed iteration
+	 * @throws NoKingOnTheBoard
+	 *             in case any player has no king
+	 */
+	public SearchResult search(SearchLimits limits) throws NoKingOnTheBoard {
+		return search(limits, 1);
+	}
+
+	/**
+	 * Searches for the best move starting iterative deepening from given
+	 * depth, so helpers of {@link ParallelSearch} search other depths than
+	 * the main search.
+	 *
+	 * @param limits
+	 *            budget of the search
+	 * @param startDepth
+	 *            depth of the first iteration
+	 * @return result of the deepest completed iteration
+	 * @throws NoKingOnTheBoard
+	 *             in case any player has no king
+	 */
+	SearchResult search(SearchLimits limits, int startDepth) throws NoKingOnTheBoard {
+		long start = System.nanoTime();
+		this.nodes = 0;
+		this.maxNodes = limits.getMaxNodes();
+		this.deadlineNanos = limits.getMaxTimeMillis() > 0 ? start + limits.getMaxTimeMillis() * 1000000L : 0;
+		this.interruptible = false;
+		this.aborted = false;
+		this.previousPvLength = 0;
+		this.moveOrdering.newSearch();
+
+		int score = 0;
+		int completedDepth = 0;
+		for (int depth = startDepth; depth <= limits.getMaxDepth(); depth++) {
+			int iterationScore = negamax(depth, 0, -INFINITY, INFINITY);
+			if (this.aborted) {
+				break;
+			}
+			score = iterationScore;
+			completedDepth = depth;
+			this.previousPvLength = this.pvLength[0];
+			System.arraycopy(this.pvTable[0], 0, this.previousPv, 0, this.previousPvLength);
+			this.interruptible = true;
+			if (isMateScore(score) || isNodeBudgetUsedUp() || isTimeUsedUp()) {
+				break;
+			}
+		}
+
+		List<Move> principalVariation = new ArrayList<>(this.previousPvLength);
+		for (int i = 0; i < this.previousPvLength; i++) {
+			principalVariation.add(PackedMove.toMove(this.previousPv[i]));
+		}
+		return new SearchResult(principalVariation, score, completedDepth, this.nodes, System.nanoTime() - start);
+	}
+
+	private int negamax(int depth, int ply, int alpha, int beta) throws NoKingOnTheBoard {
+		this.pvLength[ply] = ply;
+		this.nodes++;
+		if (shouldAbort()) {
+			this.aborted = true;
+			return DRAW_SCORE;
+		}
+		if (ply > 0 && (this.boardManager.checkFiftyMoveRule() || this.boardManager.checkThreefoldRepetitionRule())) {
+			return DRAW_SCORE;
+		}
+		if (depth == 0) {
+			return quiescence(ply, alpha, beta);
+		}
+
+		long key = this.board.getZobristKey();
+		long entry = this.transpositionTable.probe(key);
+		int hashMove = PackedMove.NONE;
+		if (entry != TranspositionTable.MISSING) {
+			hashMove = TranspositionTable.getMove(entry);
+			if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+				int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+				Bound bound = TranspositionTable.getBound(entry);
+				if (bound == Bound.EXACT && hashMove != PackedMove.NONE) {
+					this.pvTable[ply][ply] = hashMove;
+					this.pvLength[ply] = ply + 1;
+				}
+				if (bound == Bound.EXACT || (bound == Bound.LOWER && score >= beta)
+						|| (bound == Bound.UPPER && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+
+		MoveList moves = this.moveLists[ply];
+		this.boardManager.generateLegalMoves(moves);
+		if (moves.isEmpty()) {
+			return this.boardManager.isInCheck() ? -MATE_SCORE + ply : DRAW_SCORE;
+		}
+		if (hashMove == PackedMove.NONE && ply < this.previousPvLength) {
+			hashMove = this.previousPv[ply];
+		}
+		this.moveOrdering.scoreMoves(moves, ply, hashMove);
+
+		int originalAlpha = alpha;
+		int bestMove = PackedMove.NONE;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = this.moveOrdering.pickMove(moves, ply, i);
+			this.boardManager.makeMove(move);
+			int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+			this.boardManager.unmakePackedMove();
+			if (this.aborted) {
+				return DRAW_SCORE;
+			}
+			if (score > alpha) {
+				alpha = score;
+				bestMove = move;
+				updatePrincipalVariation(move, ply);
+				if (alpha >= beta) {
+					this.moveOrdering.updateCutoff(move, ply, depth);
+					break;
+				}
+			}
+		}
+
+		Bound bound = alpha >= beta ? Bound.LOWER : alpha > originalAlpha ? Bound.EXACT : Bound.UPPER;
+		this.transpositionTable.store(key, depth, bound, scoreToTable(alpha, ply),
+				bestMove != PackedMove.NONE ? bestMove : hashMove);
+		return alpha;
+	}
+
+	private int quiescence(int ply, int alpha, int beta) throws NoKingOnTheBoard {
+		MoveList moves = this.moveLists[ply];
+		boolean inCheck = this.boardManager.isInCheck();
+		if (inCheck) {
+			// player in check may not stop, all evasions are searched
+			this.boardManager.generateLegalMoves(moves);
+			if (moves.isEmpty()) {
+				return -MATE_SCORE + ply;
+			}
+			if (ply == MAX_PLY - 1) {
+				return Evaluation.evaluate(this.board, sideToMove());
+			}
+		} else {
+			this.boardManager.generateTacticalMoves(moves);
+			if (moves.isEmpty() && !this.boardManager.hasLegalMoves()) {
+				return DRAW_SCORE;
+			}
+			// player to move may stop capturing
+			int standPat = Evaluation.evaluate(this.board, sideToMove());
+			if (standPat >= beta) {
+				return beta;
+			}
+			alpha = Math.max(alpha, standPat);
+			if (ply == MAX_PLY - 1) {
+				return alpha;
+			}
+		}
+
+		this.moveOrdering.scoreMoves(moves, ply, PackedMove.NONE);
+		for (int i = 0; i < moves.size(); i++) {
+			int move = this.moveOrdering.pickMove(moves, ply, i);
+			if (!inCheck && PackedMove.getPromotion(move) == null && this.boardManager.staticExchange(
+					Coordinate.of(PackedMove.getFrom(move)), Coordinate.of(PackedMove.getTo(move))) < 0) {
+				continue;
+			}
+			this.nodes++;
+			if (shouldAbort()) {
+				this.aborted = true;
+				return DRAW_SCORE;
+			}
+			this.boardManager.makeMove(move);
+			int score = -quiescence(ply + 1, -beta, -alpha);
+			this.boardManager.unmakePackedMove();
+			if (this.aborted) {
+				return DRAW_SCORE;
+			}
+			if (score > alpha) {
+				alpha = score;
+				if (alpha >= beta) {
+					break;
+				}
+			}
+		}
+		return alpha;
+	}
+
+	private void updatePrincipalVariation(int move, int ply) {
+		this.pvTable[ply][ply] = move;
+		int childLength = this.pvLength[ply + 1];
+		System.arraycopy(this.pvTable[ply + 1], ply + 1, this.pvTable[ply], ply + 1, childLength - ply - 1);
+		this.pvLength[ply] = childLength;
+	}
+
+	/**
+	 * Makes the running search, or the next one, stop as soon as possible.
+	 * Result of the interrupted iteration is discarded, even if it is the
+	 * first one. Stopped search stays stopped.
+	 */
+	void stop() {
+		this.stopRequested = true;
+	}
+
+	private boolean shouldAbort() {
+		if (this.nodes % TIME_CHECK_INTERVAL == 0 && this.stopRequested) {
+			return true;
+		}
+		return this.interruptible
+				&& (isNodeBudgetUsedUp() || this.nodes % TIME_CHECK_INTERVAL == 0 && isTimeUsedUp());
+	}
+
+	private boolean isNodeBudgetUsedUp() {
+		return this.maxNodes > 0 && this.nodes >= this.maxNodes;
+	}
+
+	private boolean isTimeUsedUp() {
+		return this.deadlineNanos != 0 && System.nanoTime() - this.deadlineNanos >= 0;
+	}
+
+	private Color sideToMove() {
+		return this.board.getPly() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	// mate scores are stored relative to the position, not to the root
+	private static int scoreToTable(int score, int ply) {
+		if (isMateScore(score)) {
+			return score > 0 ? score + ply : score - ply;
+		}
+		return score;
+	}
+
+	private static int scoreFromTable(int score, int ply) {
+		if (isMateScore(score)) {
+			return score > 0 ? score - ply : score + ply;
+		}
+		return score;
+	}
+
+	static boolean isMateScore(int score) {
+		return Math.abs(score) > MATE_SCORE - MAX_PLY;
+	}
+}
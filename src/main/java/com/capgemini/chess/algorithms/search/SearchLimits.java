@@ -0,0 +1,92 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.data.enums.Level;
+
+/**
+ * Budget of a search: maximal depth, number of nodes and time. The search
+ * stops deepening when any of them is used up, 0 means no limit of nodes or
+ * time.
+ *
+ */
+public final class SearchLimits {
+
+	public static final int MAX_DEPTH = 64;
+
+	// presets indexed by Level ordinal, from NEWBIE to CHUCK_NORRIS_OF_CHESS
+	private static final int[] LEVEL_DEPTHS = { 1, 1, 2, 2, 3, 4, 5, 6, 8, 10 };
+	private static final long[] LEVEL_NODES = { 200, 1000, 4000, 15000, 50000, 150000, 400000, 1000000, 3000000,
+			10000000 };
+
+	private final int maxDepth;
+	private final long maxNodes;
+	private final long maxTimeMillis;
+
+	/**
+	 * Creates search budget.
+	 *
+	 * @param maxDepth
+	 *            maximal depth in plies, from 1 to {@value #MAX_DEPTH}
+	 * @param maxNodes
+	 *            maximal number of visited nodes, 0 for no limit
+	 * @param maxTimeMillis
+	 *            maximal search time in milliseconds, 0 for no limit
+	 */
+	public SearchLimits(int maxDepth, long maxNodes, long maxTimeMillis) {
+		if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+			throw new IllegalArgumentException("Search depth must be between 1 and " + MAX_DEPTH);
+		}
+		if (maxNodes < 0 || maxTimeMillis < 0) {
+			throw new IllegalArgumentException("Search budget cannot be negative");
+		}
+		this.maxDepth = maxDepth;
+		this.maxNodes = maxNodes;
+		this.maxTimeMillis = maxTimeMillis;
+	}
+
+	/**
+	 * Creates budget of a search to given depth, without node and time
+	 * limits.
+	 */
+	public static SearchLimits depth(int maxDepth) {
+		return new SearchLimits(maxDepth, 0, 0);
+	}
+
+	/**
+	 * Creates budget of a search lasting at most given time.
+	 */
+	public static SearchLimits time(long maxTimeMillis) {
+		return new SearchLimits(MAX_DEPTH, 0, maxTimeMillis);
+	}
+
+	/**
+	 * Creates budget of a search visiting at most given number of nodes.
+	 */
+	public static SearchLimits nodes(long maxNodes) {
+		return new SearchLimits(MAX_DEPTH, maxNodes, 0);
+	}
+
+	/**
+	 * Gets budget of a computer opponent playing on given level. Presets
+	 * limit depth and nodes but not time, so the opponent plays the same
+	 * moves on any machine.
+	 *
+	 * @param level
+	 *            level of the opponent
+	 * @return search budget
+	 */
+	public static SearchLimits forLevel(Level level) {
+		return new SearchLimits(LEVEL_DEPTHS[level.ordinal()], LEVEL_NODES[level.ordinal()], 0);
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public long getMaxNodes() {
+		return maxNodes;
+	}
+
+	public long getMaxTimeMillis() {
+		return maxTimeMillis;
+	}
+}
@@ -0,0 +1,97 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Result of the last completed iteration of a search: best move, principal
+ * variation and score, with the effort it took.
+ *
+ */
+public class SearchResult {
+
+	private final Move bestMove;
+	private final List<Move> principalVariation;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	public SearchResult(List<Move> principalVariation, int score, int depth, long nodes, long elapsedNanos) {
+		this.principalVariation = Collections.unmodifiableList(principalVariation);
+		this.bestMove = principalVariation.isEmpty() ? null : principalVariation.get(0);
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Gets best move found by the search.
+	 *
+	 * @return best move or null if the player to move has no legal moves
+	 */
+	public Move getBestMove() {
+		return bestMove;
+	}
+
+	/**
+	 * Gets sequence of moves expected by the search, starting with the best
+	 * move.
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * Gets score of the best move in centipawns, from the point of view of
+	 * the player to move. Mates are scored {@link Search#MATE_SCORE} minus
+	 * number of plies to the mate.
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Checks if the score announces a mate, for either player.
+	 */
+	public boolean isMate() {
+		return Search.isMateScore(score);
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets speed of the search in visited nodes per second.
+	 */
+	public long getNodesPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+		return (long) (nodes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Depth: ").append(depth).append(", score: ").append(score).append(", PV:");
+		for (Move move : principalVariation) {
+			builder.append(' ').append(move);
+		}
+		builder.append(", nodes: ").append(nodes).append(", NPS: ").append(getNodesPerSecond());
+		return builder.toString();
+	}
+}
@@ -0,0 +1,166 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Fixed-size table of search results keyed by 64-bit position hash (see
+ * {@link com.capgemini.chess.algorithms.data.generated.Board#getZobristKey()}).
+ *
+ * Every entry takes two longs: the data and the key XOR-ed with the data.
+ * Entries are written and read without locks, so threads sharing the table
+ * may see an entry written half by one thread and half by another. Such entry
+ * does not pass the XOR check and is treated as missing, so the table can be
+ * shared safely by any number of searches.
+ *
+ * Bits of the data:
+ * <ul>
+ * <li>0-24 - packed best move (see {@link PackedMove}), 0 if unknown</li>
+ * <li>25-26 - bound ordinal + 1, so data of every entry differs from 0</li>
+ * <li>32-39 - depth</li>
+ * <li>40-63 - score</li>
+ * </ul>
+ * Entries are read as the data long, see {@link #probe(long)}, and decoded by
+ * the static getters.
+ *
+ */
+public class TranspositionTable {
+
+	public static final long MISSING = 0L;
+
+	private static final int BYTES_PER_MEGABYTE = 1 << 20;
+	private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+	// direct buffers are limited to 2 GB
+	private static final int MAX_SIZE_MB = 1024;
+
+	private static final long MOVE_MASK = (1L << 25) - 1;
+	private static final int BOUND_SHIFT = 25;
+	private static final long BOUND_MASK = 0x3;
+	private static final int DEPTH_SHIFT = 32;
+	private static final long DEPTH_MASK = 0xFF;
+	private static final int SCORE_SHIFT = 40;
+
+	private static final Bound[] BOUNDS = Bound.values();
+
+	private final LongBuffer entries;
+	private final long indexMask;
+
+	/**
+	 * Creates table on the Java heap.
+	 *
+	 * @param sizeMb
+	 *            size of the table in megabytes, rounded down to a power of
+	 *            two
+	 */
+	public TranspositionTable(int sizeMb) {
+		this(sizeMb, false);
+	}
+
+	/**
+	 * Creates table.
+	 *
+	 * @param sizeMb
+	 *            size of the table in megabytes, rounded down to a power of
+	 *            two
+	 * @param offHeap
+	 *            true to keep entries in a direct buffer outside of the Java
+	 *            heap, where they are not scanned by garbage collector
+	 */
+	public TranspositionTable(int sizeMb, boolean offHeap) {
+		if (sizeMb < 1 || sizeMb > MAX_SIZE_MB) {
+			throw new IllegalArgumentException("Table size must be between 1 and " + MAX_SIZE_MB + " MB");
+		}
+		long entryCount = Long.highestOneBit((long) sizeMb * BYTES_PER_MEGABYTE / BYTES_PER_ENTRY);
+		int longCount = (int) (entryCount * 2);
+		if (offHeap) {
+			this.entries = ByteBuffer.allocateDirect(longCount * Long.BYTES).order(ByteOrder.nativeOrder())
+					.asLongBuffer();
+		} else {
+			this.entries = LongBuffer.allocate(longCount);
+		}
+		this.indexMask = entryCount - 1;
+	}
+
+	/**
+	 * Stores search result of a position. Entry of the same position
+	 * searched deeper is kept, any other entry in the slot is replaced.
+	 *
+	 * @param key
+	 *            hash of the position
+	 * @param depth
+	 *            depth of the search, from 0 to 255
+	 * @param bound
+	 *            kind of the score
+	 * @param score
+	 *            score of the position
+	 * @param move
+	 *            packed best move or {@link PackedMove#NONE}
+	 */
+	public void store(long key, int depth, Bound bound, int score, int move) {
+		int index = index(key);
+		long storedData = this.entries.get(index + 1);
+		if ((this.entries.get(index) ^ storedData) == key && getDepth(storedData) > depth) {
+			return;
+		}
+		long data = (move & MOVE_MASK) | (long) (bound.ordinal() + 1) << BOUND_SHIFT
+				| (depth & DEPTH_MASK) << DEPTH_SHIFT | (long) score << SCORE_SHIFT;
+		this.entries.put(index, key ^ data);
+		this.entries.put(index + 1, data);
+	}
+
+	/**
+	 * Reads stored search result of a position.
+	 *
+	 * @param key
+	 *            hash of the position
+	 * @return data of the entry or {@link #MISSING}
+	 */
+	public long probe(long key) {
+		int index = index(key);
+		long data = this.entries.get(index + 1);
+		return (this.entries.get(index) ^ data) == key ? data : MISSING;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.entries.capacity(); i++) {
+			this.entries.put(i, 0L);
+		}
+	}
+
+	/**
+	 * Gets number of entries the table can hold.
+	 */
+	public long getCapacity() {
+		return this.indexMask + 1;
+	}
+
+	public boolean isOffHeap() {
+		return this.entries.isDirect();
+	}
+
+	public static int getMove(long entry) {
+		return (int) (entry & MOVE_MASK);
+	}
+
+	public static Bound getBound(long entry) {
+		return BOUNDS[(int) (entry >>> BOUND_SHIFT & BOUND_MASK) - 1];
+	}
+
+	public static int getDepth(long entry) {
+		return (int) (entry >>> DEPTH_SHIFT & DEPTH_MASK);
+	}
+
+	public static int getScore(long entry) {
+		return (int) (entry >> SCORE_SHIFT);
+	}
+
+	private int index(long key) {
+		return (int) (key & this.indexMask) * 2;
+	}
+}
@@ -0,0 +1,109 @@
+package com.capgemini.chess.algorithms.attacks;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Test class for testing {@link AttackTables}
+ *
+ */
+public class AttackTablesTest {
+
+	@Test
+	public void shouldKnightInCornerAttackTwoFields() {
+		// given
+		int a1 = Coordinate.of(0, 0).getSquareIndex();
+
+		// when
+		long attacks = AttackTables.knightAttacks(a1);
+
+		// then
+		assertEquals(bit(1, 2) | bit(2, 1), attacks);
+	}
+
+	@Test
+	public void shouldKingInCenterAttackEightFields() {
+		// given
+		int e4 = Coordinate.of(4, 3).getSquareIndex();
+
+		// when
+		long attacks = AttackTables.kingAttacks(e4);
+
+		// then
+		assertEquals(8, Long.bitCount(attacks));
+		assertEquals(0, attacks & bit(4, 3));
+	}
+
+	@Test
+	public void shouldPawnsAttackDiagonallyForward() {
+		// given
+		int a2 = Coordinate.of(0, 1).getSquareIndex();
+		int d7 = Coordinate.of(3, 6).getSquareIndex();
+
+		// when
+		long whiteAttacks = AttackTables.pawnAttacks(Color.WHITE, a2);
+		long blackAttacks = AttackTables.pawnAttacks(Color.BLACK, d7);
+
+		// then
+		assertEquals(bit(1, 2), whiteAttacks);
+		assertEquals(bit(2, 5) | bit(4, 5), blackAttacks);
+	}
+
+	@Test
+	public void shouldRaysCoverWholeLines() {
+		// given
+		int d4 = Coordinate.of(3, 3).getSquareIndex();
+
+		// when
+		long rookRays = AttackTables.rookRays(d4);
+		long bishopRays = AttackTables.bishopRays(d4);
+
+		// then
+		assertEquals(14, Long.bitCount(rookRays));
+		assertEquals(13, Long.bitCount(bishopRays));
+	}
+
+	@Test
+	public void shouldBetweenContainOnlyInnerFieldsOfAlignedPair() {
+		// given
+		int b2 = Coordinate.of(1, 1).getSquareIndex();
+		int e5 = Coordinate.of(4, 4).getSquareIndex();
+		int g1 = Coordinate.of(6, 0).getSquareIndex();
+		int c5 = Coordinate.of(2, 4).getSquareIndex();
+
+		// when
+		long diagonal = AttackTables.between(b2, e5);
+		long antiDiagonal = AttackTables.between(g1, c5);
+		long notAligned = AttackTables.between(b2, c5);
+
+		// then
+		assertEquals(bit(2, 2) | bit(3, 3), diagonal);
+		assertEquals(diagonal, AttackTables.between(e5, b2));
+		assertEquals(bit(5, 1) | bit(4, 2) | bit(3, 3), antiDiagonal);
+		assertEquals(0, notAligned);
+	}
+
+	@Test
+	public void shouldLineGoFromEdgeToEdge() {
+		// given
+		int c3 = Coordinate.of(2, 2).getSquareIndex();
+		int c6 = Coordinate.of(2, 5).getSquareIndex();
+		int d5 = Coordinate.of(3, 4).getSquareIndex();
+
+		// when
+		long file = AttackTables.line(c3, c6);
+		long notAligned = AttackTables.line(c3, d5);
+
+		// then
+		assertEquals(0x0404040404040404L, file);
+		assertEquals(0, notAligned);
+	}
+
+	private long bit(int x, int y) {
+		return 1L << Coordinate.of(x, y).getSquareIndex();
+	}
+}
@@ -0,0 +1,87 @@
+package com.capgemini.chess.algorithms.attacks;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+
+/**
+ * Test class for testing {@link SlidingAttacks}
+ *
+ */
+public class SlidingAttacksTest {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 } };
+
+	@Test
+	public void shouldRookStopOnFirstOccupiedField() {
+		// given
+		int d4 = Coordinate.of(3, 3).getSquareIndex();
+		long occupancy = bit(3, 5) | bit(1, 3) | bit(3, 7);
+
+		// when
+		long attacks = SlidingAttacks.rookAttacks(d4, occupancy);
+
+		// then
+		long expected = bit(3, 4) | bit(3, 5) | bit(2, 3) | bit(1, 3) | bit(4, 3) | bit(5, 3) | bit(6, 3)
+				| bit(7, 3) | bit(3, 2) | bit(3, 1) | bit(3, 0);
+		assertEquals(expected, attacks);
+	}
+
+	@Test
+	public void shouldBishopOnEmptyBoardAttackWholeDiagonals() {
+		// given
+		int c1 = Coordinate.of(2, 0).getSquareIndex();
+
+		// when
+		long attacks = SlidingAttacks.bishopAttacks(c1, 0L);
+
+		// then
+		assertEquals(AttackTables.bishopRays(c1), attacks);
+	}
+
+	@Test
+	public void shouldLookupMatchRayWalkForRandomOccupancies() {
+		// given
+		Random random = new Random(42);
+
+		for (int i = 0; i < 20000; i++) {
+			int square = random.nextInt(64);
+			long occupancy = random.nextLong() & random.nextLong();
+
+			// when
+			long rookAttacks = SlidingAttacks.rookAttacks(square, occupancy);
+			long bishopAttacks = SlidingAttacks.bishopAttacks(square, occupancy);
+
+			// then
+			assertEquals(walkRays(square, occupancy, ROOK_DIRECTIONS), rookAttacks);
+			assertEquals(walkRays(square, occupancy, BISHOP_DIRECTIONS), bishopAttacks);
+			assertEquals(rookAttacks | bishopAttacks, SlidingAttacks.queenAttacks(square, occupancy));
+		}
+	}
+
+	private long walkRays(int square, long occupancy, int[][] directions) {
+		long attacks = 0;
+		for (int[] direction : directions) {
+			int x = square % 8 + direction[0];
+			int y = square / 8 + direction[1];
+			while (x >= 0 && x < 8 && y >= 0 && y < 8) {
+				attacks |= bit(x, y);
+				if ((occupancy & bit(x, y)) != 0) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+	private long bit(int x, int y) {
+		return 1L << Coordinate.of(x, y).getSquareIndex();
+	}
+}
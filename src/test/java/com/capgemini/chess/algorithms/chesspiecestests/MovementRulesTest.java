@@ -0,0 +1,82 @@
+package com.capgemini.chess.algorithms.chesspiecestests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.attacks.AttackTables;
+import com.capgemini.chess.algorithms.attacks.SlidingAttacks;
+import com.capgemini.chess.algorithms.chesspieces.MovementRules;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Test class for testing {@link MovementRules}
+ *
+ */
+public class MovementRulesTest {
+
+	@Test
+	public void shouldCapturesMatchAttackTablesOnEmptyBoard() {
+		for (int square = 0; square < 64; square++) {
+			// when
+			long king = MovementRules.captures(PieceType.KING, Color.WHITE, square);
+			long knight = MovementRules.captures(PieceType.KNIGHT, Color.BLACK, square);
+			long queen = MovementRules.captures(PieceType.QUEEN, Color.WHITE, square);
+			long whitePawn = MovementRules.captures(PieceType.PAWN, Color.WHITE, square);
+			long blackPawn = MovementRules.captures(PieceType.PAWN, Color.BLACK, square);
+
+			// then
+			assertEquals(AttackTables.kingAttacks(square), king);
+			assertEquals(AttackTables.knightAttacks(square), knight);
+			assertEquals(SlidingAttacks.queenAttacks(square, 0L), queen);
+			assertEquals(AttackTables.pawnAttacks(Color.WHITE, square), whitePawn);
+			assertEquals(AttackTables.pawnAttacks(Color.BLACK, square), blackPawn);
+		}
+	}
+
+	@Test
+	public void shouldPawnStepTwiceOnlyFromStartRank() {
+		// given
+		int e2 = Coordinate.of(4, 1).getSquareIndex();
+		int e3 = Coordinate.of(4, 2).getSquareIndex();
+		int e7 = Coordinate.of(4, 6).getSquareIndex();
+
+		// when
+		long fromStart = MovementRules.attacks(PieceType.PAWN, Color.WHITE, e2);
+		long afterStep = MovementRules.attacks(PieceType.PAWN, Color.WHITE, e3);
+		long blackFromStart = MovementRules.attacks(PieceType.PAWN, Color.BLACK, e7);
+
+		// then
+		assertEquals(bit(4, 2) | bit(4, 3), fromStart);
+		assertEquals(bit(4, 3), afterStep);
+		assertEquals(bit(4, 5) | bit(4, 4), blackFromStart);
+	}
+
+	@Test
+	public void shouldRejectFieldsOutsideOfBoard() {
+		// given
+		Coordinate from = new Coordinate(0, 0);
+		Coordinate to = new Coordinate(-1, 1);
+
+		// when
+		MoveValidationResult result = MovementRules.validateCapture(PieceType.KING, Color.WHITE, from, to);
+
+		// then
+		assertEquals(MoveValidationResult.NOT_REACHABLE, result);
+	}
+
+	@Test
+	public void shouldDescribePawnRulesByColor() {
+		assertEquals(1, MovementRules.pawnDirection(Color.WHITE));
+		assertEquals(-1, MovementRules.pawnDirection(Color.BLACK));
+		assertEquals(6, MovementRules.pawnStartRank(Color.BLACK));
+		assertEquals(0, MovementRules.promotionRank(Color.BLACK));
+	}
+
+	private long bit(int x, int y) {
+		return 1L << Coordinate.of(x, y).getSquareIndex();
+	}
+}
@@ -1,5 +1,6 @@
 package com.capgemini.chess.algorithms.chesspiecestests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -8,6 +9,7 @@ import com.capgemini.chess.algorithms.chesspieces.Pawn;
 import com.capgemini.chess.algorithms.chesspieces.Piece;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 
 public class PawnTest {
@@ -87,4 +89,20 @@ public class PawnTest {
 		//then exception
 	}
 
+	@Test
+	public void shouldPawnValidateWithoutException() {
+		// given
+		Coordinate from = new Coordinate(1, 2);
+
+		// when
+		MoveValidationResult diagonalCapture = whitePawn.validateCapture(from, new Coordinate(2, 3));
+		MoveValidationResult straightCapture = whitePawn.validateCapture(from, new Coordinate(1, 3));
+		MoveValidationResult backwardAttack = blackPawn.validateAttack(from, new Coordinate(1, 3));
+
+		// then
+		assertEquals(MoveValidationResult.VALID, diagonalCapture);
+		assertEquals(MoveValidationResult.NOT_REACHABLE, straightCapture);
+		assertEquals(MoveValidationResult.NOT_REACHABLE, backwardAttack);
+	}
+
 }
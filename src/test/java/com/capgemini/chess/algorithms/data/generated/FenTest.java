@@ -0,0 +1,134 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.CastlingType;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Test class for testing {@link Fen}
+ *
+ */
+public class FenTest {
+
+	@Test
+	public void shouldInitialPositionMatchInitialBoard() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		Board board = Fen.toBoard(Fen.INITIAL_POSITION);
+
+		// then
+		assertEquals(boardManager.getBoard().getZobristKey(), board.getZobristKey());
+		assertEquals(Fen.INITIAL_POSITION, Fen.fromBoard(boardManager.getBoard()));
+	}
+
+	@Test
+	public void shouldWriteSideToMoveAndEnPassantField() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// then
+		assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+				Fen.fromBoard(boardManager.getBoard()));
+	}
+
+	@Test
+	public void shouldReadAllFields() {
+		// given
+		String fen = "r3k2r/8/8/3pP3/8/8/8/R3K3 w Qk d6 12 40";
+
+		// when
+		Board board = Fen.toBoard(fen);
+
+		// then
+		assertEquals(Piece.of(Color.WHITE, PieceType.PAWN), board.getPieceAt(Coordinate.of(4, 4)));
+		assertEquals(Piece.of(Color.BLACK, PieceType.ROOK), board.getPieceAt(Coordinate.of(7, 7)));
+		assertNull(board.getPieceAt(Coordinate.of(7, 0)));
+		assertTrue(board.hasCastlingRight(Color.WHITE, CastlingType.QUEENSIDE));
+		assertTrue(board.hasCastlingRight(Color.BLACK, CastlingType.KINGSIDE));
+		assertEquals(0b0110, board.getCastlingRights());
+		assertEquals(Coordinate.of(3, 5), board.getEnPassantField());
+		assertEquals(12, board.getHalfmoveClock());
+		assertEquals(78, board.getPly());
+		assertEquals(fen, Fen.fromBoard(board));
+	}
+
+	@Test
+	public void shouldContinueGameFromPositionWithBlackToMove() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(
+				Fen.toBoard("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1"));
+
+		// when
+		Move move = boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+
+		// then
+		assertEquals(Color.BLACK, move.getMovedPiece().getColor());
+		assertEquals("rnbqkb1r/pppppppp/5n2/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 1 2",
+				Fen.fromBoard(boardManager.getBoard()));
+	}
+
+	@Test
+	public void shouldAcceptMissingMoveClocks() {
+		// when
+		Board board = Fen.toBoard("4k3/8/8/8/8/8/8/4K3 b - -");
+
+		// then
+		assertEquals("4k3/8/8/8/8/8/8/4K3 b - - 0 1", Fen.fromBoard(board));
+	}
+
+	@Test
+	public void shouldWriteCastlingRightsOnlyWithPiecesOnTheirFields() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(Piece.of(Color.WHITE, PieceType.KING), Coordinate.of(4, 0));
+		board.setPieceAt(Piece.of(Color.WHITE, PieceType.ROOK), Coordinate.of(7, 0));
+		board.setPieceAt(Piece.of(Color.BLACK, PieceType.KING), Coordinate.of(4, 7));
+
+		// when
+		String fen = Fen.fromBoard(board);
+
+		// then
+		assertEquals("4k3/8/8/8/8/8/8/4K2R w K - 0 1", fen);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectTooLongRank() {
+		Fen.toBoard("rnbqkbnrr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnknownPiece() {
+		Fen.toBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNX w KQkq - 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectWrongEnPassantField() {
+		Fen.toBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e4 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEnPassantFieldOfSideToMove() {
+		Fen.toBoard("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e3 0 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectMissingFields() {
+		Fen.toBoard("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w");
+	}
+}
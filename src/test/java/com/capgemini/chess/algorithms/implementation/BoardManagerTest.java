@@ -2,10 +2,14 @@ package com.capgemini.chess.algorithms.implementation;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,16 +19,23 @@ import com.capgemini.chess.algorithms.chesspieces.Bishop;
 import com.capgemini.chess.algorithms.chesspieces.King;
 import com.capgemini.chess.algorithms.chesspieces.Knight;
 import com.capgemini.chess.algorithms.chesspieces.Pawn;
+import com.capgemini.chess.algorithms.chesspieces.Piece;
 import com.capgemini.chess.algorithms.chesspieces.Queen;
 import com.capgemini.chess.algorithms.chesspieces.Rook;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.CastlingType;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
 
 /**
  * Test class for testing {@link BoardManager}
@@ -168,6 +179,221 @@ public class BoardManagerTest {
 	}
 
 
+	@Test
+	public void testGenerateBoardBitboards() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		Move move = new Move();
+		move.setFrom(new Coordinate(4, 0));
+		move.setTo(new Coordinate(6, 0));
+		move.setType(MoveType.CASTLING);
+		moves.add(move);
+
+		// when
+		BoardManager boardManager = new BoardManager(moves);
+
+		// then
+		Board board = boardManager.getBoard();
+		assertEquals(1L << 6, board.getBitboard(Color.WHITE, PieceType.KING));
+		assertEquals((1L << 0) | (1L << 5), board.getBitboard(Color.WHITE, PieceType.ROOK));
+		assertEquals(0x00FF000000000000L, board.getBitboard(Color.BLACK, PieceType.PAWN));
+		assertEquals(0xFFFF000000000000L, board.getOccupancy(Color.BLACK));
+		assertEquals(0xFFFF00000000FF6FL, board.getOccupancy());
+	}
+
+	@Test
+	public void testKingFieldsFollowKingMoves() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(6, 0));
+		Coordinate castledKingField = board.getKingField(Color.WHITE);
+		boardManager.unmakeMove();
+
+		// then
+		assertEquals(new Coordinate(6, 0), castledKingField);
+		assertEquals(new Coordinate(4, 0), board.getKingField(Color.WHITE));
+		assertEquals(new Coordinate(4, 7), board.getKingField(Color.BLACK));
+		board.setPieceAt(null, new Coordinate(4, 7));
+		assertNull(board.getKingField(Color.BLACK));
+	}
+
+	@Test
+	public void testBoardCopyIsIndependent() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		Board copy = new Board(boardManager.getBoard());
+		BoardManager copyManager = new BoardManager(copy);
+
+		// when
+		copyManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+
+		// then
+		assertEquals(1, boardManager.getBoard().getMoveHistory().size());
+		assertEquals(2, copy.getMoveHistory().size());
+		assertNull(boardManager.getBoard().getPieceAt(new Coordinate(4, 4)));
+		assertEquals(new Pawn(Color.BLACK), copy.getPieceAt(new Coordinate(4, 4)));
+		copyManager.unmakeMove();
+		assertEquals(boardManager.getBoard().getZobristKey(), copy.getZobristKey());
+		assertEquals(boardManager.getBoard().getHalfmoveClock(), copy.getHalfmoveClock());
+	}
+
+	@Test
+	public void testGenerateTacticalMovesLeavesOutQuietMoves() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("4k3/1P6/8/n2pP3/8/8/7r/R3K3 w - d6 0 1"));
+		MoveList tacticalMoves = new MoveList();
+		MoveList legalMoves = new MoveList();
+
+		// when
+		boardManager.generateTacticalMoves(tacticalMoves);
+		boardManager.generateLegalMoves(legalMoves);
+
+		// then
+		int expectedCount = 0;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+			if (PackedMove.getCapturedPiece(move) != null || PackedMove.getPromotion(move) != null) {
+				expectedCount++;
+				assertTrue(PackedMove.toMove(move).toString(), contains(tacticalMoves, move));
+			}
+		}
+		assertEquals(6, expectedCount);
+		assertEquals(expectedCount, tacticalMoves.size());
+		assertTrue(boardManager.hasLegalMoves());
+	}
+
+	@Test
+	public void testStaticExchangeOfDefendedPieces() {
+		// given
+		BoardManager pawnTakesKnight = new BoardManager(Fen.toBoard("4k3/8/4p3/3n4/4P3/8/8/4K3 w - - 0 1"));
+		BoardManager queenTakesPawn = new BoardManager(Fen.toBoard("4k3/8/2p5/3p4/8/8/3Q4/4K3 w - - 0 1"));
+
+		// when
+		int knightExchange = pawnTakesKnight.staticExchange(new Coordinate(4, 3), new Coordinate(3, 4));
+		int pawnExchange = queenTakesPawn.staticExchange(new Coordinate(3, 1), new Coordinate(3, 4));
+
+		// then
+		assertEquals(320 - 100, knightExchange);
+		assertEquals(100 - 900, pawnExchange);
+	}
+
+	@Test
+	public void testStaticExchangeCountsAttackersBehindCapturingPieces() {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("3rk3/3r4/8/3p4/8/8/3R4/3RK3 w - - 0 1"));
+		BoardManager kingDefended = new BoardManager(Fen.toBoard("4k3/3p4/8/8/8/8/3R4/4K3 w - - 0 1"));
+
+		// when
+		int exchange = boardManager.staticExchange(new Coordinate(3, 1), new Coordinate(3, 4));
+		int kingExchange = kingDefended.staticExchange(new Coordinate(3, 1), new Coordinate(3, 6));
+
+		// then
+		assertEquals(100 - 500, exchange);
+		assertEquals(100 - 500, kingExchange);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStaticExchangeFromEmptyField() {
+		new BoardManager().staticExchange(new Coordinate(4, 3), new Coordinate(4, 4));
+	}
+
+	@Test
+	public void testPieceSetsFollowCaptures() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(0, 5));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 5));
+
+		// then
+		assertEquals((1L << 4) | (1L << 40), board.getOccupancy(Color.WHITE));
+		assertEquals(1L << 60, board.getOccupancy(Color.BLACK));
+		assertEquals(new Rook(Color.WHITE), board.getPieceAt(new Coordinate(0, 5).getSquareIndex()));
+		assertNull(board.getPieceAt(0));
+	}
+
+
+	@Test
+	public void testGenerateBoardUsesSharedInstances() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		Piece whitePawn = boardManager.getBoard().getPieceAt(Coordinate.of(0, 1));
+		Piece otherWhitePawn = boardManager.getBoard().getPieceAt(Coordinate.of(7, 1));
+
+		// then
+		assertSame(Piece.of(Color.WHITE, PieceType.PAWN), whitePawn);
+		assertSame(whitePawn, otherWhitePawn);
+		assertEquals(new Pawn(Color.WHITE), whitePawn);
+		assertSame(Coordinate.of(3, 5), Coordinate.of(new Coordinate(3, 5).getSquareIndex()));
+		assertEquals(new Coordinate(8, 6), Coordinate.of(8, 6));
+	}
+
+	@Test
+	public void testUpdateBoardStateDoesNotAllocate() throws InvalidMoveException {
+		// given
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+			return;
+		}
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		long threadId = Thread.currentThread().getId();
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(Coordinate.of(4, 1), Coordinate.of(4, 3));
+		for (int i = 0; i < 1000; i++) {
+			boardManager.updateBoardState();
+		}
+
+		// when
+		long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 1000; i++) {
+			boardManager.updateBoardState();
+		}
+		long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		// then
+		assertTrue("allocated " + allocated + " bytes", allocated < 1000);
+	}
+
+	@Test
+	public void testGenerateLegalMovesIntoMoveListDoesNotAllocate() throws InvalidMoveException {
+		// given
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+			return;
+		}
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		long threadId = Thread.currentThread().getId();
+		BoardManager boardManager = new BoardManager();
+		MoveList legalMoves = new MoveList();
+		for (int i = 0; i < 1000; i++) {
+			boardManager.generateLegalMoves(legalMoves);
+		}
+
+		// when
+		long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 1000; i++) {
+			boardManager.generateLegalMoves(legalMoves);
+		}
+		long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		// then
+		assertEquals(20, legalMoves.size());
+		assertTrue("allocated " + allocated + " bytes", allocated < 1000);
+	}
 
 	@Test
 	public void testPerformMoveCastling() throws InvalidMoveException {
@@ -206,6 +432,40 @@ public class BoardManagerTest {
 		assertEquals(new Pawn(Color.WHITE), move.getMovedPiece());
 	}
 
+	@Test(expected = InvalidMoveException.class)
+	public void testPerformMoveCastlingAfterKingMoveAddedToHistory() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.getMoveHistory().add(createMove(new Coordinate(4, 0), new Coordinate(4, 1), new King(Color.WHITE)));
+		board.getMoveHistory().add(createMove(new Coordinate(4, 7), new Coordinate(3, 7), new King(Color.BLACK)));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(6, 0));
+	}
+
+	@Test
+	public void testPerformMoveEnPassantAfterPawnMoveAddedToHistory() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(4, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 4));
+		board.getMoveHistory().add(createMove(new Coordinate(0, 1), new Coordinate(0, 0), new King(Color.WHITE)));
+		board.getMoveHistory().add(createMove(new Coordinate(3, 6), new Coordinate(3, 4), new Pawn(Color.BLACK)));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		Move move = boardManager.performMove(new Coordinate(4, 4), new Coordinate(3, 5));
+
+		// then
+		assertEquals(MoveType.EN_PASSANT, move.getType());
+	}
+
 	@Test(expected = InvalidMoveException.class)
 	public void testPerformMoveInvalidIndexOutOfBound() throws InvalidMoveException {
 		// given
@@ -389,6 +649,36 @@ public class BoardManagerTest {
 		boardManager.performMove(new Coordinate(4, 5), new Coordinate(7, 2));
 	}
 
+	@Test
+	public void testCheckMoveRejectionCodes() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(6, 1));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(5, 2));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		MoveValidationResult pinnedBishop = boardManager.checkMove(new Coordinate(4, 5), new Coordinate(7, 2));
+		MoveValidationResult queenOverPawn = boardManager.checkMove(new Coordinate(6, 1), new Coordinate(4, 3));
+		MoveValidationResult queenOnPawn = boardManager.checkMove(new Coordinate(6, 1), new Coordinate(5, 2));
+		MoveValidationResult knightLikeQueen = boardManager.checkMove(new Coordinate(6, 1), new Coordinate(4, 2));
+		MoveValidationResult blackRook = boardManager.checkMove(new Coordinate(4, 7), new Coordinate(4, 6));
+		MoveValidationResult queenAlongRank = boardManager.checkMove(new Coordinate(6, 1), new Coordinate(0, 1));
+
+		// then
+		assertEquals(MoveValidationResult.LEAVES_KING_IN_CHECK, pinnedBishop);
+		assertEquals(MoveValidationResult.BLOCKED, queenOverPawn);
+		assertEquals(MoveValidationResult.OWN_PIECE, queenOnPawn);
+		assertEquals(MoveValidationResult.NOT_REACHABLE, knightLikeQueen);
+		assertEquals(MoveValidationResult.WRONG_COLOR, blackRook);
+		assertEquals(MoveValidationResult.VALID, queenAlongRank);
+		assertEquals(MoveValidationResult.OUT_OF_BOUNDS,
+				boardManager.checkMove(new Coordinate(6, 1), new Coordinate(8, 1)));
+	}
+
 	@Test
 	public void testUpdateBoardStateRegular() throws InvalidMoveException {
 		// given
@@ -452,32 +742,217 @@ public class BoardManagerTest {
 		assertEquals(BoardState.STALE_MATE, boardState);
 	}
 
+	@Test
+	public void testGenerateLegalMovesInitialPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		List<Move> moves = boardManager.generateLegalMoves();
+		List<Move> knightMoves = boardManager.generateLegalMoves(new Coordinate(1, 0));
+
+		// then
+		assertEquals(20, moves.size());
+		assertEquals(2, knightMoves.size());
+		assertTrue(boardManager.generateLegalMoves(new Coordinate(1, 7)).isEmpty());
+	}
+
+	@Test
+	public void testGenerateLegalMovesPinnedPiece() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		List<Move> bishopMoves = boardManager.generateLegalMoves(new Coordinate(4, 5));
+
+		// then
+		assertTrue(bishopMoves.isEmpty());
+		assertEquals(5, boardManager.generateLegalMoves().size());
+	}
+
+	@Test
+	public void testGenerateLegalMovesInDoubleCheckOnlyMovesKing() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 3));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(3, 2));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		List<Move> moves = boardManager.generateLegalMoves();
+
+		// then
+		for (Move move : moves) {
+			assertEquals(PieceType.KING, move.getMovedPiece().getType());
+		}
+		assertEquals(3, moves.size());
+	}
+
+	@Test
+	public void testGetLegalTargetsOfPinnedRook() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 3));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 5));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		long targets = boardManager.getLegalTargets(new Coordinate(4, 3));
+		List<Coordinate> fields = boardManager.getLegalTargetFields(new Coordinate(4, 3));
+
+		// then
+		long expected = (1L << Coordinate.of(4, 1).getSquareIndex()) | (1L << Coordinate.of(4, 2).getSquareIndex())
+				| (1L << Coordinate.of(4, 4).getSquareIndex()) | (1L << Coordinate.of(4, 5).getSquareIndex());
+		assertEquals(expected, targets);
+		assertEquals(4, fields.size());
+		assertEquals(new Coordinate(4, 1), fields.get(0));
+		assertEquals(new Coordinate(4, 5), fields.get(3));
+		assertEquals(0L, boardManager.getLegalTargets(new Coordinate(4, 5)));
+		assertEquals(0L, boardManager.getLegalTargets(new Coordinate(3, 3)));
+	}
+
+	@Test
+	public void testGenerateLegalMovesCastlingAndEnPassant() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+
+		// when
+		List<Move> moves = boardManager.generateLegalMoves();
+
+		// then
+		int castlings = 0;
+		int enPassants = 0;
+		for (Move move : moves) {
+			if (move.getType() == MoveType.CASTLING) {
+				castlings++;
+			} else if (move.getType() == MoveType.EN_PASSANT) {
+				enPassants++;
+			}
+		}
+		assertEquals(1, castlings);
+		assertEquals(1, enPassants);
+	}
+
+	@Test
+	public void testUnmakeMoveCastling() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(2, 0));
+
+		// when
+		Move move = boardManager.unmakeMove();
+
+		// then
+		assertEquals(MoveType.CASTLING, move.getType());
+		assertEquals(new King(Color.WHITE), board.getPieceAt(new Coordinate(4, 0)));
+		assertEquals(new Rook(Color.WHITE), board.getPieceAt(new Coordinate(0, 0)));
+		assertNull(board.getPieceAt(new Coordinate(2, 0)));
+		assertNull(board.getPieceAt(new Coordinate(3, 0)));
+		assertTrue(board.getMoveHistory().isEmpty());
+		assertEquals(Board.ALL_CASTLING_RIGHTS, board.getCastlingRights());
+	}
+
+	@Test
+	public void testUnmakeMoveEnPassant() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(0, 0));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		boardManager.performMove(new Coordinate(1, 4), new Coordinate(2, 5));
+
+		// when
+		boardManager.unmakeMove();
+
+		// then
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(new Coordinate(1, 4)));
+		assertEquals(new Pawn(Color.BLACK), board.getPieceAt(new Coordinate(2, 4)));
+		assertNull(board.getPieceAt(new Coordinate(2, 5)));
+		assertEquals(new Coordinate(2, 5), board.getEnPassantField());
+		assertEquals(MoveType.EN_PASSANT,
+				boardManager.performMove(new Coordinate(1, 4), new Coordinate(2, 5)).getType());
+	}
+
+	@Test
+	public void testUnmakeMovePromotion() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 6));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(1, 6), new Coordinate(0, 7));
+		assertEquals(new Queen(Color.WHITE), board.getPieceAt(new Coordinate(0, 7)));
+
+		// when
+		boardManager.unmakeMove();
+
+		// then
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(new Coordinate(1, 6)));
+		assertEquals(new Rook(Color.BLACK), board.getPieceAt(new Coordinate(0, 7)));
+		assertTrue(board.hasCastlingRight(Color.BLACK, CastlingType.QUEENSIDE));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testUnmakeMoveNothingToTakeBack() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.unmakeMove();
+	}
+
 	@Test
 	public void testCheckThreefoldRepetitionRuleSuccessful() {
 		// given
 		List<Move> moves = new ArrayList<>();
+		// knights leave and come back twice, pawn moves could not be repeated
 		for (int i = 0; i < 2; i++) {
 			Move move1 = new Move();
-			move1.setFrom(new Coordinate(5, 1));
-			move1.setTo(new Coordinate(5, 3));
+			move1.setFrom(new Coordinate(6, 0));
+			move1.setTo(new Coordinate(5, 2));
 			move1.setType(MoveType.ATTACK);
 			moves.add(move1);
 
 			Move move2 = new Move();
-			move2.setFrom(new Coordinate(5, 6));
-			move2.setTo(new Coordinate(5, 4));
+			move2.setFrom(new Coordinate(6, 7));
+			move2.setTo(new Coordinate(5, 5));
 			move2.setType(MoveType.ATTACK);
 			moves.add(move2);
 
 			Move move3 = new Move();
-			move3.setFrom(new Coordinate(5, 3));
-			move3.setTo(new Coordinate(5, 1));
+			move3.setFrom(new Coordinate(5, 2));
+			move3.setTo(new Coordinate(6, 0));
 			move3.setType(MoveType.ATTACK);
 			moves.add(move3);
 
 			Move move4 = new Move();
-			move4.setFrom(new Coordinate(5, 4));
-			move4.setTo(new Coordinate(5, 6));
+			move4.setFrom(new Coordinate(5, 5));
+			move4.setTo(new Coordinate(6, 7));
 			move4.setType(MoveType.ATTACK);
 			moves.add(move4);
 		}
@@ -526,6 +1001,44 @@ public class BoardManagerTest {
 		assertFalse(isThreefoldRepetition);
 	}
 
+	@Test
+	public void testZobristKeyOfRepeatedPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		long initialKey = boardManager.getBoard().getZobristKey();
+
+		// when
+		boardManager.performMove(new Coordinate(1, 0), new Coordinate(2, 2));
+		long keyAfterMove = boardManager.getBoard().getZobristKey();
+		boardManager.performMove(new Coordinate(1, 7), new Coordinate(2, 5));
+		boardManager.performMove(new Coordinate(2, 2), new Coordinate(1, 0));
+		boardManager.performMove(new Coordinate(2, 5), new Coordinate(1, 7));
+
+		// then
+		assertNotEquals(initialKey, keyAfterMove);
+		assertEquals(initialKey, boardManager.getBoard().getZobristKey());
+		assertEquals(initialKey, boardManager.getBoard().getPositionKey(3));
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+		assertEquals(keyAfterMove, boardManager.getBoard().getZobristKey());
+	}
+
+	@Test
+	public void testZobristKeyDependsOnSideToMove() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		long whiteToMoveKey = board.getZobristKey();
+
+		// when
+		board.getMoveHistory().add(createDummyMove(board));
+
+		// then
+		assertNotEquals(whiteToMoveKey, board.getZobristKey());
+	}
+
 	@Test
 	public void testCheckFiftyMoveRuleSuccessful() {
 		// given
@@ -583,6 +1096,120 @@ public class BoardManagerTest {
 		assertFalse(areFiftyMoves);
 	}
 
+	@Test
+	public void testMoveHistoryKeepsPackedMoves() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+
+		// then
+		int capture = board.getPackedMove(2);
+		assertEquals(MoveType.CAPTURE, PackedMove.getType(capture));
+		assertEquals(Piece.of(Color.BLACK, PieceType.PAWN), PackedMove.getCapturedPiece(capture));
+		Move move = board.getMoveHistory().get(2);
+		assertEquals(new Coordinate(4, 3), move.getFrom());
+		assertEquals(new Coordinate(3, 4), move.getTo());
+		assertEquals(Piece.of(Color.WHITE, PieceType.PAWN), move.getMovedPiece());
+		assertEquals(3, board.getMoveHistory().size());
+	}
+
+	@Test
+	public void testHalfmoveClockResetByPawnMovesAndCaptures() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		int clockAfterKnightMoves = board.getHalfmoveClock();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		int clockAfterPawnMove = board.getHalfmoveClock();
+		boardManager.performMove(new Coordinate(5, 5), new Coordinate(4, 3));
+		int clockAfterCapture = board.getHalfmoveClock();
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+
+		// then
+		assertEquals(2, clockAfterKnightMoves);
+		assertEquals(0, clockAfterPawnMove);
+		assertEquals(0, clockAfterCapture);
+		assertEquals(2, board.getHalfmoveClock());
+	}
+
+	@Test
+	public void testHalfmoveClockOfReplayedMovesFollowsBoard() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		moves.add(createMove(new Coordinate(6, 0), new Coordinate(5, 2), MoveType.ATTACK));
+		moves.add(createMove(new Coordinate(6, 7), new Coordinate(5, 5), MoveType.ATTACK));
+		moves.add(createMove(new Coordinate(4, 1), new Coordinate(4, 3), MoveType.ATTACK));
+		List<Move> movesWithCapture = new ArrayList<>(moves);
+		movesWithCapture.add(createMove(new Coordinate(5, 5), new Coordinate(4, 3), MoveType.ATTACK));
+
+		// when
+		BoardManager afterPawnMove = new BoardManager(moves);
+		BoardManager afterCapture = new BoardManager(movesWithCapture);
+
+		// then
+		assertEquals(0, afterPawnMove.getBoard().getHalfmoveClock());
+		assertEquals(0, afterCapture.getBoard().getHalfmoveClock());
+		assertEquals(Piece.of(Color.WHITE, PieceType.PAWN), afterPawnMove.getBoard().getMoveHistory().get(2)
+				.getMovedPiece());
+	}
+
+	@Test
+	public void testMovesAddedToHistoryArePackedAsGiven() {
+		// given
+		Board board = new BoardManager().getBoard();
+		List<Move> history = board.getMoveHistory();
+
+		// when
+		history.add(createMove(new Coordinate(6, 0), new Coordinate(5, 2), new Knight(Color.WHITE)));
+		history.add(createMove(new Coordinate(6, 7), new Coordinate(5, 5), new Knight(Color.BLACK)));
+		int clockAfterKnightMoves = board.getHalfmoveClock();
+		history.add(createMove(new Coordinate(4, 1), new Coordinate(4, 3), new Pawn(Color.WHITE)));
+		int clockAfterPawnMove = board.getHalfmoveClock();
+		history.set(1, createMove(new Coordinate(3, 6), new Coordinate(3, 4), new Pawn(Color.BLACK)));
+
+		// then
+		assertEquals(2, clockAfterKnightMoves);
+		assertEquals(0, clockAfterPawnMove);
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(new Knight(Color.WHITE), history.get(0).getMovedPiece());
+		assertEquals(new Pawn(Color.BLACK), history.get(1).getMovedPiece());
+		assertEquals(new Coordinate(3, 6), history.get(1).getFrom());
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(new Coordinate(4, 1)));
+	}
+
+	private Move createMove(Coordinate from, Coordinate to, Piece movedPiece) {
+		Move move = createMove(from, to, MoveType.ATTACK);
+		move.setMovedPiece(movedPiece);
+		return move;
+	}
+
+	private Move createMove(Coordinate from, Coordinate to, MoveType type) {
+		Move move = new Move();
+		move.setFrom(from);
+		move.setTo(to);
+		move.setType(type);
+		return move;
+	}
+
+	private boolean contains(MoveList moves, int move) {
+		for (int i = 0; i < moves.size(); i++) {
+			if (moves.get(i) == move) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private Move createDummyMove(Board board) {
 
 		Move move = new Move();
@@ -0,0 +1,119 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.movements.Move;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Test class for testing {@link CheckpointedHistory}
+ *
+ */
+public class CheckpointedHistoryTest {
+
+	@Test
+	public void testPositionAtEveryPly() throws InvalidMoveException {
+		// given
+		CheckpointedHistory history = new CheckpointedHistory(new BoardManager().getBoard(), 8);
+		BoardManager game = new BoardManager();
+		List<String> positions = new ArrayList<>();
+		positions.add(Fen.fromBoard(game.getBoard()));
+		for (int ply = 0; ply < 70; ply++) {
+			List<Move> legalMoves = game.generateLegalMoves();
+			Move move = legalMoves.get(ply * 7 % legalMoves.size());
+			game.makeMove(move);
+			history.addMove(move);
+			positions.add(Fen.fromBoard(game.getBoard()));
+		}
+
+		// when
+		List<String> restoredPositions = new ArrayList<>();
+		for (int ply = 0; ply <= history.size(); ply++) {
+			restoredPositions.add(Fen.fromBoard(history.positionAt(ply).getBoard()));
+		}
+
+		// then
+		assertEquals(positions, restoredPositions);
+	}
+
+	@Test
+	public void testPositionAtReplaysFromNearestCheckpoint() throws InvalidMoveException {
+		// given
+		CheckpointedHistory history = new CheckpointedHistory(new BoardManager().getBoard(), 4);
+		BoardManager game = new BoardManager();
+		for (int ply = 0; ply < 10; ply++) {
+			Move move = game.generateLegalMoves().get(0);
+			game.makeMove(move);
+			history.addMove(move);
+		}
+
+		// when
+		BoardManager boardManager = history.positionAt(10);
+
+		// then
+		assertEquals(2, boardManager.getBoard().getMoveHistory().size());
+		assertEquals(game.getBoard().getZobristKey(), boardManager.getBoard().getZobristKey());
+	}
+
+	@Test
+	public void testPositionAtFromFenPosition() throws InvalidMoveException {
+		// given
+		String fen = "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 7 30";
+		CheckpointedHistory history = new CheckpointedHistory(Fen.toBoard(fen), 2);
+		BoardManager game = new BoardManager(Fen.toBoard(fen));
+		Move move = game.performMove(new Coordinate(4, 7), new Coordinate(6, 7));
+		history.addMove(move);
+
+		// when
+		BoardManager start = history.positionAt(0);
+		BoardManager end = history.positionAt(1);
+
+		// then
+		assertEquals(fen, Fen.fromBoard(start.getBoard()));
+		assertEquals(Fen.fromBoard(game.getBoard()), Fen.fromBoard(end.getBoard()));
+	}
+
+	@Test
+	public void testMovesAreKeptPacked() throws InvalidMoveException {
+		// given
+		CheckpointedHistory history = new CheckpointedHistory(new BoardManager().getBoard(), 2);
+		BoardManager game = new BoardManager();
+		List<Move> moves = new ArrayList<>();
+		moves.add(game.performMove(new Coordinate(4, 1), new Coordinate(4, 3)));
+		moves.add(game.performMove(new Coordinate(3, 6), new Coordinate(3, 4)));
+		moves.add(game.performMove(new Coordinate(4, 3), new Coordinate(3, 4)));
+
+		// when
+		for (Move move : moves) {
+			history.addMove(move);
+		}
+
+		// then
+		assertEquals(3, history.size());
+		assertEquals(Piece.of(Color.BLACK, PieceType.PAWN), PackedMove.getCapturedPiece(history.getPackedMove(2)));
+		for (int ply = 0; ply < moves.size(); ply++) {
+			assertEquals(moves.get(ply).getFrom(), history.getMoves().get(ply).getFrom());
+			assertEquals(moves.get(ply).getTo(), history.getMoves().get(ply).getTo());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testPositionAtBeyondHistory() {
+		// given
+		CheckpointedHistory history = new CheckpointedHistory();
+
+		// when
+		history.positionAt(1);
+	}
+}
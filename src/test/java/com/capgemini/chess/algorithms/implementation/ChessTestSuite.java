@@ -4,6 +4,22 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.capgemini.chess.algorithms.attacks.AttackTablesTest;
+import com.capgemini.chess.algorithms.attacks.SlidingAttacksTest;
+import com.capgemini.chess.algorithms.chesspiecestests.BishopTest;
+import com.capgemini.chess.algorithms.chesspiecestests.KingTest;
+import com.capgemini.chess.algorithms.chesspiecestests.KnightTest;
+import com.capgemini.chess.algorithms.chesspiecestests.MovementRulesTest;
+import com.capgemini.chess.algorithms.chesspiecestests.PawnTest;
+import com.capgemini.chess.algorithms.chesspiecestests.QueenTest;
+import com.capgemini.chess.algorithms.chesspiecestests.RookTest;
+import com.capgemini.chess.algorithms.data.generated.FenTest;
+import com.capgemini.chess.algorithms.movements.PackedMoveTest;
+import com.capgemini.chess.algorithms.search.MoveOrderingTest;
+import com.capgemini.chess.algorithms.search.ParallelSearchTest;
+import com.capgemini.chess.algorithms.search.SearchTest;
+import com.capgemini.chess.algorithms.search.TranspositionTableTest;
+
 /**
  * Test suite containing all tests
  *
@@ -11,7 +27,10 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BoardManagerTest.class })
+@SuiteClasses({ BoardManagerTest.class, PerftTest.class, CheckpointedHistoryTest.class, AttackTablesTest.class,
+		SlidingAttacksTest.class, FenTest.class, PackedMoveTest.class, BishopTest.class, KingTest.class,
+		KnightTest.class, PawnTest.class, QueenTest.class, RookTest.class, MovementRulesTest.class, SearchTest.class,
+		TranspositionTableTest.class, ParallelSearchTest.class, MoveOrderingTest.class })
 public class ChessTestSuite {
 
 }
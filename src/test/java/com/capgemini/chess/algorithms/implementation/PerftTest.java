@@ -0,0 +1,181 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Test class for perft counts of {@link BoardManager} in well known
+ * reference positions.
+ *
+ */
+public class PerftTest {
+
+	// position with castling, en passant and promotions for both sides
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+	// endgame with en passant captures exposing kings to rook checks
+	private static final String ROOK_ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+	// position with promotions on both sides and castling only for black
+	private static final String PROMOTIONS = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+	// position with a pawn about to promote next to the black king
+	private static final String DISCOVERED_CHECKS = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+	@Test
+	public void testPerftInitialPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		long depth1 = boardManager.perft(1);
+		long depth2 = boardManager.perft(2);
+		long depth3 = boardManager.perft(3);
+
+		// then
+		assertEquals(20, depth1);
+		assertEquals(400, depth2);
+		assertEquals(8902, depth3);
+	}
+
+	@Test
+	public void testPerftKiwipete() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(KIWIPETE));
+
+		// when
+		long depth1 = boardManager.perft(1);
+		long depth2 = boardManager.perft(2);
+		long depth3 = boardManager.perft(3);
+
+		// then
+		assertEquals(48, depth1);
+		assertEquals(2039, depth2);
+		assertEquals(97862, depth3);
+	}
+
+	@Test
+	public void testPerftRookEndgame() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(ROOK_ENDGAME));
+
+		// when
+		long depth2 = boardManager.perft(2);
+		long depth4 = boardManager.perft(4);
+
+		// then
+		assertEquals(191, depth2);
+		assertEquals(43238, depth4);
+	}
+
+	@Test
+	public void testPerftPromotions() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(PROMOTIONS));
+
+		// when
+		long depth1 = boardManager.perft(1);
+		long depth2 = boardManager.perft(2);
+		long depth3 = boardManager.perft(3);
+
+		// then
+		assertEquals(6, depth1);
+		assertEquals(264, depth2);
+		assertEquals(9467, depth3);
+	}
+
+	@Test
+	public void testPerftDiscoveredChecks() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(DISCOVERED_CHECKS));
+
+		// when
+		long depth1 = boardManager.perft(1);
+		long depth2 = boardManager.perft(2);
+		long depth3 = boardManager.perft(3);
+
+		// then
+		assertEquals(44, depth1);
+		assertEquals(1486, depth2);
+		assertEquals(62379, depth3);
+	}
+
+	@Test
+	public void testPerftBlackToMove() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(
+				Fen.toBoard("r3k2r/pppbbppp/2n2q1P/1P2p3/3pn3/BN2PNP1/P1PPQPB1/R3K2R b KQkq - 0 1"));
+
+		// when
+		long depth1 = boardManager.perft(1);
+		long depth2 = boardManager.perft(2);
+		long depth3 = boardManager.perft(3);
+
+		// then
+		assertEquals(48, depth1);
+		assertEquals(2039, depth2);
+		assertEquals(97862, depth3);
+	}
+
+	@Test
+	public void testPerftLeavesBoardUnchanged() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(KIWIPETE));
+		long zobristKey = boardManager.getBoard().getZobristKey();
+
+		// when
+		boardManager.perft(3);
+
+		// then
+		assertEquals(zobristKey, boardManager.getBoard().getZobristKey());
+		assertEquals(0, boardManager.getBoard().getMoveHistory().size());
+		assertEquals(Board.ALL_CASTLING_RIGHTS, boardManager.getBoard().getCastlingRights());
+	}
+
+	@Test
+	public void testDivideInitialPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		PerftResult result = boardManager.divide(3);
+
+		// then
+		assertEquals(20, result.getNodesPerMove().size());
+		assertEquals(8902, result.getNodes());
+		Map<String, Long> nodesPerMove = new HashMap<>();
+		for (Map.Entry<Move, Long> entry : result.getNodesPerMove().entrySet()) {
+			nodesPerMove.put(entry.getKey().toString(), entry.getValue());
+		}
+		assertEquals(Long.valueOf(600), nodesPerMove.get("e2e4"));
+		assertEquals(Long.valueOf(440), nodesPerMove.get("g1f3"));
+		assertTrue(result.toString().contains("e2e4: 600"));
+		assertTrue(result.toString().contains("Nodes: 8902"));
+	}
+
+	@Test
+	public void testDivideUnderpromotions() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("4k3/P7/8/8/8/8/8/4K3 w - - 0 1"));
+
+		// when
+		PerftResult result = boardManager.divide(2);
+
+		// then
+		int promotions = 0;
+		for (Move move : result.getNodesPerMove().keySet()) {
+			if (move.getPromotion() != null) {
+				promotions++;
+			}
+		}
+		assertEquals(4, promotions);
+		assertEquals(9, result.getNodesPerMove().size());
+	}
+}
@@ -0,0 +1,92 @@
+package com.capgemini.chess.algorithms.movements;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Test class for testing {@link PackedMove} and {@link MoveList}
+ *
+ */
+public class PackedMoveTest {
+
+	@Test
+	public void shouldUnpackAllFields() {
+		// given
+		Piece pawn = Piece.of(Color.BLACK, PieceType.PAWN);
+		Piece rook = Piece.of(Color.WHITE, PieceType.ROOK);
+
+		// when
+		int packedMove = PackedMove.pack(Coordinate.of(1, 1).getSquareIndex(), Coordinate.of(0, 0).getSquareIndex(),
+				pawn, rook, MoveType.CAPTURE, PieceType.KNIGHT);
+
+		// then
+		assertEquals(Coordinate.of(1, 1).getSquareIndex(), PackedMove.getFrom(packedMove));
+		assertEquals(0, PackedMove.getTo(packedMove));
+		assertEquals(pawn, PackedMove.getMovedPiece(packedMove));
+		assertEquals(rook, PackedMove.getCapturedPiece(packedMove));
+		assertEquals(MoveType.CAPTURE, PackedMove.getType(packedMove));
+		assertEquals(PieceType.KNIGHT, PackedMove.getPromotion(packedMove));
+	}
+
+	@Test
+	public void shouldConvertMoveBothWays() {
+		// given
+		Move move = new Move();
+		move.setFrom(Coordinate.of(4, 0));
+		move.setTo(Coordinate.of(6, 0));
+		move.setMovedPiece(Piece.of(Color.WHITE, PieceType.KING));
+		move.setType(MoveType.CASTLING);
+
+		// when
+		int packedMove = PackedMove.pack(move, null);
+		Move unpackedMove = PackedMove.toMove(packedMove);
+
+		// then
+		assertNotEquals(PackedMove.NONE, packedMove);
+		assertNull(PackedMove.getCapturedPiece(packedMove));
+		assertEquals(move.getFrom(), unpackedMove.getFrom());
+		assertEquals(move.getTo(), unpackedMove.getTo());
+		assertEquals(move.getMovedPiece(), unpackedMove.getMovedPiece());
+		assertEquals(MoveType.CASTLING, unpackedMove.getType());
+		assertNull(unpackedMove.getPromotion());
+	}
+
+	@Test
+	public void shouldMoveListGrowAndBeReused() {
+		// given
+		MoveList moves = new MoveList(2);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			moves.add(i);
+		}
+		int last = moves.removeLast();
+		moves.clear();
+		moves.add(7);
+
+		// then
+		assertEquals(99, last);
+		assertEquals(1, moves.size());
+		assertEquals(7, moves.get(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldMoveListRejectIndexBeyondSize() {
+		// given
+		MoveList moves = new MoveList();
+		moves.add(1);
+		moves.clear();
+
+		// when
+		moves.get(0);
+	}
+}
@@ -0,0 +1,108 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.movements.MoveList;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Test class for testing {@link MoveOrdering}
+ *
+ */
+public class MoveOrderingTest {
+
+	private static final int QUIET = PackedMove.pack(1, 18, piece(PieceType.KNIGHT), null, MoveType.ATTACK, null);
+	private static final int OTHER_QUIET = PackedMove.pack(6, 21, piece(PieceType.KNIGHT), null, MoveType.ATTACK,
+			null);
+	private static final int PAWN_TAKES_KNIGHT = PackedMove.pack(20, 27, piece(PieceType.PAWN),
+			Piece.of(Color.BLACK, PieceType.KNIGHT), MoveType.CAPTURE, null);
+	private static final int QUEEN_TAKES_KNIGHT = PackedMove.pack(3, 27, piece(PieceType.QUEEN),
+			Piece.of(Color.BLACK, PieceType.KNIGHT), MoveType.CAPTURE, null);
+	private static final int PAWN_TAKES_QUEEN = PackedMove.pack(12, 21, piece(PieceType.PAWN),
+			Piece.of(Color.BLACK, PieceType.QUEEN), MoveType.CAPTURE, null);
+
+	@Test
+	public void shouldSearchHashMoveFirstThenMostValuableVictimByLeastValuableAttacker() {
+		// given
+		MoveOrdering moveOrdering = new MoveOrdering(4);
+		MoveList moves = moveList(QUIET, QUEEN_TAKES_KNIGHT, OTHER_QUIET, PAWN_TAKES_KNIGHT, PAWN_TAKES_QUEEN);
+
+		// when
+		moveOrdering.scoreMoves(moves, 0, OTHER_QUIET);
+
+		// then
+		assertEquals(OTHER_QUIET, moveOrdering.pickMove(moves, 0, 0));
+		assertEquals(PAWN_TAKES_QUEEN, moveOrdering.pickMove(moves, 0, 1));
+		assertEquals(PAWN_TAKES_KNIGHT, moveOrdering.pickMove(moves, 0, 2));
+		assertEquals(QUEEN_TAKES_KNIGHT, moveOrdering.pickMove(moves, 0, 3));
+		assertEquals(QUIET, moveOrdering.pickMove(moves, 0, 4));
+	}
+
+	@Test
+	public void shouldSearchKillerBeforeOtherQuietMoves() {
+		// given
+		MoveOrdering moveOrdering = new MoveOrdering(4);
+		MoveList moves = moveList(QUIET, OTHER_QUIET, PAWN_TAKES_KNIGHT);
+
+		// when
+		moveOrdering.updateCutoff(OTHER_QUIET, 2, 1);
+		moveOrdering.scoreMoves(moves, 2, PackedMove.NONE);
+
+		// then
+		assertEquals(PAWN_TAKES_KNIGHT, moveOrdering.pickMove(moves, 2, 0));
+		assertEquals(OTHER_QUIET, moveOrdering.pickMove(moves, 2, 1));
+		assertEquals(QUIET, moveOrdering.pickMove(moves, 2, 2));
+	}
+
+	@Test
+	public void shouldOrderQuietMovesByHistoryOnOtherPlies() {
+		// given
+		MoveOrdering moveOrdering = new MoveOrdering(4);
+		MoveList moves = moveList(QUIET, OTHER_QUIET);
+
+		// when
+		moveOrdering.updateCutoff(OTHER_QUIET, 1, 3);
+		moveOrdering.newSearch();
+		moveOrdering.scoreMoves(moves, 0, PackedMove.NONE);
+
+		// then
+		assertEquals(OTHER_QUIET, moveOrdering.pickMove(moves, 0, 0));
+		assertEquals(QUIET, moveOrdering.pickMove(moves, 0, 1));
+	}
+
+	@Test
+	public void shouldKeepGenerationOrderWhenDisabled() {
+		// given
+		MoveOrdering moveOrdering = new MoveOrdering(4);
+		moveOrdering.setEnabled(false);
+		MoveList moves = moveList(QUIET, QUEEN_TAKES_KNIGHT, OTHER_QUIET, PAWN_TAKES_QUEEN);
+
+		// when
+		moveOrdering.updateCutoff(OTHER_QUIET, 0, 3);
+		moveOrdering.scoreMoves(moves, 0, PAWN_TAKES_QUEEN);
+
+		// then
+		assertEquals(QUIET, moveOrdering.pickMove(moves, 0, 0));
+		assertEquals(QUEEN_TAKES_KNIGHT, moveOrdering.pickMove(moves, 0, 1));
+		assertEquals(OTHER_QUIET, moveOrdering.pickMove(moves, 0, 2));
+		assertEquals(PAWN_TAKES_QUEEN, moveOrdering.pickMove(moves, 0, 3));
+	}
+
+	private static MoveList moveList(int... packedMoves) {
+		MoveList moves = new MoveList();
+		for (int move : packedMoves) {
+			moves.add(move);
+		}
+		return moves;
+	}
+
+	private static Piece piece(PieceType type) {
+		return Piece.of(Color.WHITE, type);
+	}
+}
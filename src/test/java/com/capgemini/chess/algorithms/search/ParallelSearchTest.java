@@ -0,0 +1,71 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+
+/**
+ * Test class for testing {@link ParallelSearch}
+ *
+ */
+public class ParallelSearchTest {
+
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+	@Test
+	public void shouldFindMateWithHelpers() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"));
+
+		// when
+		SearchResult result = new ParallelSearch(boardManager, 4).search(SearchLimits.depth(4));
+
+		// then
+		assertEquals(new Coordinate(0, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(Search.MATE_SCORE - 1, result.getScore());
+	}
+
+	@Test
+	public void shouldSearchToRequestedDepthAndLeaveBoardUnchanged() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard(KIWIPETE));
+		Board board = boardManager.getBoard();
+		long zobristKey = board.getZobristKey();
+
+		// when
+		SearchResult result = new ParallelSearch(boardManager, 3).search(SearchLimits.depth(4));
+
+		// then
+		assertEquals(4, result.getDepth());
+		assertEquals(zobristKey, board.getZobristKey());
+		assertEquals(0, board.getMoveHistory().size());
+		assertEquals(KIWIPETE, Fen.fromBoard(board));
+	}
+
+	@Test
+	public void shouldSingleThreadSearchLikeSearch() throws NoKingOnTheBoard {
+		// given
+		SearchLimits limits = SearchLimits.depth(3);
+		long singleThreadNodes = new Search(new BoardManager(Fen.toBoard(KIWIPETE))).search(limits).getNodes();
+
+		// when
+		SearchResult result = new ParallelSearch(new BoardManager(Fen.toBoard(KIWIPETE)), 1).search(limits);
+
+		// then
+		assertEquals(singleThreadNodes, result.getNodes());
+		assertTrue(result.getBestMove() != null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectZeroThreads() {
+		new ParallelSearch(new BoardManager(), 0);
+	}
+}
@@ -0,0 +1,173 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+import com.capgemini.chess.algorithms.movements.Move;
+
+/**
+ * Test class for testing {@link Search}
+ *
+ */
+public class SearchTest {
+
+	@Test
+	public void shouldFindMateInOne() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(4));
+
+		// then
+		assertEquals(new Coordinate(0, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(Search.MATE_SCORE - 1, result.getScore());
+		assertTrue(result.isMate());
+		assertEquals(1, result.getDepth());
+	}
+
+	@Test
+	public void shouldCaptureUndefendedQueen() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(2));
+
+		// then
+		assertEquals(new Coordinate(3, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(3, 4), result.getBestMove().getTo());
+		assertFalse(result.isMate());
+	}
+
+	@Test
+	public void shouldNotTakeDefendedPawnWithQueen() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("4k3/8/2p5/3p4/8/8/3Q4/4K3 w - - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(1));
+
+		// then
+		assertNotEquals(new Coordinate(3, 4), result.getBestMove().getTo());
+	}
+
+	@Test
+	public void shouldSearchEvasionsOfCheckAtDepthLimit() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("q3k3/8/8/1N6/8/8/8/6K1 w - - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(1));
+
+		// then
+		assertEquals(new Coordinate(2, 6), result.getBestMove().getTo());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void shouldLeaveBoardInOriginalPosition() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+		long zobristKey = board.getZobristKey();
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(3));
+
+		// then
+		assertEquals(zobristKey, board.getZobristKey());
+		assertEquals(0, board.getMoveHistory().size());
+		assertEquals(3, result.getDepth());
+		assertEquals(3, result.getPrincipalVariation().size());
+	}
+
+	@Test
+	public void shouldPrincipalVariationStartWithBestMoveAndBeLegal() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(
+				Fen.toBoard("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(3));
+
+		// then
+		assertEquals(result.getBestMove(), result.getPrincipalVariation().get(0));
+		for (Move move : result.getPrincipalVariation()) {
+			assertTrue(boardManager.checkMove(move.getFrom(), move.getTo()).isValid());
+			boardManager.makeMove(move);
+		}
+	}
+
+	@Test
+	public void shouldStopDeepeningWhenNodeBudgetIsUsedUp() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.nodes(2000));
+
+		// then
+		assertTrue(result.getDepth() >= 1);
+		assertTrue(result.getDepth() < SearchLimits.MAX_DEPTH);
+		assertTrue(result.getNodes() <= 2000);
+	}
+
+	@Test
+	public void shouldSearchFewerNodesWithMoveOrdering() throws NoKingOnTheBoard {
+		// given
+		String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+		Search unordered = new Search(new BoardManager(Fen.toBoard(fen)));
+		unordered.setMoveOrdering(false);
+
+		// when
+		SearchResult ordered = new Search(new BoardManager(Fen.toBoard(fen))).search(SearchLimits.depth(3));
+		SearchResult generationOrder = unordered.search(SearchLimits.depth(3));
+
+		// then
+		assertTrue(ordered.getNodes() < generationOrder.getNodes());
+	}
+
+	@Test
+	public void shouldReturnNoMoveInStalemate() throws NoKingOnTheBoard {
+		// given
+		BoardManager boardManager = new BoardManager(Fen.toBoard("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1"));
+
+		// when
+		SearchResult result = new Search(boardManager).search(SearchLimits.depth(3));
+
+		// then
+		assertNull(result.getBestMove());
+		assertEquals(0, result.getScore());
+	}
+
+	@Test
+	public void shouldStrongerLevelsSearchDeeper() {
+		// given
+		int previousDepth = 0;
+		long previousNodes = 0;
+
+		for (Level level : Level.values()) {
+			// when
+			SearchLimits limits = SearchLimits.forLevel(level);
+
+			// then
+			assertTrue(limits.getMaxDepth() >= previousDepth);
+			assertTrue(limits.getMaxNodes() > previousNodes);
+			previousDepth = limits.getMaxDepth();
+			previousNodes = limits.getMaxNodes();
+		}
+	}
+}
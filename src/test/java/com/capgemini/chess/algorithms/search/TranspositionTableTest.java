@@ -0,0 +1,115 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.chesspieces.Piece;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingOnTheBoard;
+import com.capgemini.chess.algorithms.movements.PackedMove;
+
+/**
+ * Test class for testing {@link TranspositionTable}
+ *
+ */
+public class TranspositionTableTest {
+
+	private static final long KEY = 0x9D39247E33776D41L;
+
+	@Test
+	public void shouldReadStoredEntry() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		int move = PackedMove.pack(12, 28, Piece.of(Color.WHITE, PieceType.PAWN), null, MoveType.ATTACK, null);
+
+		// when
+		table.store(KEY, 7, Bound.LOWER, -Search.MATE_SCORE + 3, move);
+		long entry = table.probe(KEY);
+
+		// then
+		assertEquals(move, TranspositionTable.getMove(entry));
+		assertEquals(7, TranspositionTable.getDepth(entry));
+		assertEquals(Bound.LOWER, TranspositionTable.getBound(entry));
+		assertEquals(-Search.MATE_SCORE + 3, TranspositionTable.getScore(entry));
+	}
+
+	@Test
+	public void shouldMissOtherPositionInTheSameSlot() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		long otherKey = KEY ^ (1L << 62);
+
+		// when
+		table.store(KEY, 3, Bound.EXACT, 0, PackedMove.NONE);
+
+		// then
+		assertEquals(TranspositionTable.MISSING, table.probe(otherKey));
+		assertEquals(Bound.EXACT, TranspositionTable.getBound(table.probe(KEY)));
+	}
+
+	@Test
+	public void shouldKeepDeeperEntryOfTheSamePosition() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+
+		// when
+		table.store(KEY, 5, Bound.EXACT, 40, PackedMove.NONE);
+		table.store(KEY, 2, Bound.UPPER, -10, PackedMove.NONE);
+
+		// then
+		assertEquals(5, TranspositionTable.getDepth(table.probe(KEY)));
+		assertEquals(40, TranspositionTable.getScore(table.probe(KEY)));
+	}
+
+	@Test
+	public void shouldSizeTableInMegabytes() {
+		// when
+		TranspositionTable table = new TranspositionTable(3, true);
+
+		// then
+		assertEquals(2 * 65536, table.getCapacity());
+		assertTrue(table.isOffHeap());
+		assertFalse(new TranspositionTable(1).isOffHeap());
+	}
+
+	@Test
+	public void shouldClearEntries() {
+		// given
+		TranspositionTable table = new TranspositionTable(1, true);
+		table.store(KEY, 1, Bound.EXACT, 0, PackedMove.NONE);
+
+		// when
+		table.clear();
+
+		// then
+		assertEquals(TranspositionTable.MISSING, table.probe(KEY));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEmptyTable() {
+		new TranspositionTable(0);
+	}
+
+	@Test
+	public void shouldSharedTableKeepSearchResult() throws NoKingOnTheBoard {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+		SearchResult first = new Search(new BoardManager(Fen.toBoard(fen)), table).search(SearchLimits.depth(3));
+
+		// when
+		SearchResult second = new Search(new BoardManager(Fen.toBoard(fen)), table).search(SearchLimits.depth(3));
+
+		// then
+		assertEquals(first.getScore(), second.getScore());
+		assertEquals(first.getBestMove().toString(), second.getBestMove().toString());
+		assertTrue(second.getNodes() < first.getNodes());
+	}
+}